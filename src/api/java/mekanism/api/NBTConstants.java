@@ -32,6 +32,7 @@ public final class NBTConstants {
     public static final String LOWER_VOLUME = "lowerVolume";
     public static final String MUFFLING_COUNT = "muffling";
     public static final String NETWORK = "network";
+    public static final String NETWORK_SESSION = "networkSession";
     public static final String OWNER_NAME = "ownerName";
     public static final String RENDERING = "rendering";
     public static final String RENDER_LOCATION = "renderLocation";
@@ -43,6 +44,7 @@ public final class NBTConstants {
     public static final String SCALE_ALT_3 = "scale3";
     public static final String SOUND_SCALE = "soundScale";
     public static final String TAG = "tag";
+    public static final String UPDATE_VERSION = "updateVersion";
     public static final String VALVE = "valve";
     public static final String VOLUME = "volume";
 
@@ -155,7 +157,9 @@ public final class NBTConstants {
     public static final String PUBLIC_FREQUENCY = "publicFreq";
     public static final String PULL = "pull";
     public static final String PULSE = "pulse";
+    public static final String QIO_ITEM_COUNTS = "qioItemCounts";
     public static final String QIO_ITEM_MAP = "qioItemMap";
+    public static final String QIO_ITEM_TYPES = "qioItemTypes";
     public static final String QIO_META_COUNT = "qioMetaCount";
     public static final String QIO_META_TYPES = "qioMetaTypes";
     public static final String RADIATION = "radiation";
@@ -624,6 +624,8 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %s.");
+        add(MekanismLang.COMMAND_DEBUG_PATHFINDER, "Transporter path cache: %s paths (%s positions), %s hits, %s misses, %s evictions.");
+        add(MekanismLang.COMMAND_DEBUG_TILES, "Loaded Mekanism tiles: %s awake, %s sleeping.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%s); %s positions on stack.");
@@ -0,0 +1,70 @@
+package mekanism.api.math;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FloatingLongBenchmark {
+
+    private FloatingLong a;
+    private FloatingLong b;
+    private FloatingLong wholeDivisor;
+    private FloatingLong accumulator;
+
+    @Setup
+    public void setup() {
+        a = FloatingLong.createConst(1_234_567_890L, (short) 1_234);
+        b = FloatingLong.createConst(987_654L, (short) 4_321);
+        wholeDivisor = FloatingLong.createConst(37);
+        accumulator = FloatingLong.create(0);
+    }
+
+    @Benchmark
+    public FloatingLong add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public FloatingLong plusEqual() {
+        //Keep the accumulator from growing until it clamps so that we measure the normal addition path
+        return accumulator.isZero() ? accumulator.plusEqual(b) : accumulator.minusEqual(b);
+    }
+
+    @Benchmark
+    public FloatingLong subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public FloatingLong multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public FloatingLong divide() {
+        return a.divide(b);
+    }
+
+    @Benchmark
+    public FloatingLong divideWhole() {
+        return a.divide(wholeDivisor);
+    }
+
+    @Benchmark
+    public long divideToLong() {
+        return a.divideToLong(b);
+    }
+
+    @Benchmark
+    public int compare() {
+        return a.compareTo(b);
+    }
+}
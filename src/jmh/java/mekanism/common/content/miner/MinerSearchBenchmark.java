@@ -0,0 +1,196 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.TileEntityBoundingBlock;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.FlowingFluidBlock;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tags.TagRegistryManager;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.SharedConstants;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.palette.UpgradeData;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraftforge.fluids.IFluidBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Times searching the area of a miner at max radius that goes from bedrock to y 63. {@link #perChunkSection()} runs the actual {@link ThreadMinerSearch}, and
+ * {@link #perPosition()} runs the search as it was before it went through the area a chunk section at a time: going through every position of the area and only
+ * remembering whether a {@link Block} matched a filter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MinerSearchBenchmark {
+
+    private static final int RADIUS = 32;
+    private static final int DIAMETER = RADIUS * 2 + 1;
+    private static final int MAX_Y = 63;
+
+    /**
+     * Percentage of sections that contain the block being filtered for.
+     */
+    @Param({"0", "10", "100"})
+    public int oreSectionPercent;
+
+    private List<IChunk> chunks;
+    private IBlockReader region;
+    private List<MinerFilter<?>> filters;
+    private BlockPos minerPos;
+    private BlockPos startingPos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        //Make sure our tags exist before binding all the tags to empty ones, as there are no tags loaded without a server
+        MekanismTags.Blocks.MINER_BLACKLIST.getName();
+        TagRegistryManager.resetAllToEmpty();
+        filters = Collections.singletonList(new MinerItemStackFilter(new ItemStack(Blocks.DIAMOND_ORE)));
+        minerPos = new BlockPos(0, MAX_Y + 1, 0);
+        startingPos = new BlockPos(-RADIUS, 0, -RADIUS);
+        BlockState[] fillers = {Blocks.STONE.defaultBlockState(), Blocks.DIRT.defaultBlockState(), Blocks.GRAVEL.defaultBlockState(), Blocks.ANDESITE.defaultBlockState()};
+        BlockState ore = Blocks.DIAMOND_ORE.defaultBlockState();
+        Random random = new Random(0);
+        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        chunks = new ArrayList<>();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int chunkX = -RADIUS >> 4; chunkX <= RADIUS >> 4; chunkX++) {
+            for (int chunkZ = -RADIUS >> 4; chunkZ <= RADIUS >> 4; chunkZ++) {
+                ChunkPrimer chunk = new ChunkPrimer(new ChunkPos(chunkX, chunkZ), UpgradeData.EMPTY);
+                for (int sectionY = 0; sectionY <= MAX_Y >> 4; sectionY++) {
+                    boolean hasOre = random.nextInt(100) < oreSectionPercent;
+                    for (int y = sectionY << 4; y < (sectionY + 1) << 4; y++) {
+                        for (int z = 0; z < 16; z++) {
+                            for (int x = 0; x < 16; x++) {
+                                BlockState state = hasOre && random.nextInt(64) == 0 ? ore : fillers[random.nextInt(fillers.length)];
+                                chunk.setBlockState(pos.set(chunk.getPos().getMinBlockX() + x, y, chunk.getPos().getMinBlockZ() + z), state, false);
+                            }
+                        }
+                    }
+                }
+                chunks.add(chunk);
+                chunkMap.put(chunk.getPos().toLong(), chunk);
+            }
+        }
+        region = new ChunkRegion(chunkMap);
+    }
+
+    @Benchmark
+    public Long2ObjectMap<BitSet> perChunkSection() {
+        ThreadMinerSearch search = new ThreadMinerSearch(chunks, filters, false, startingPos, DIAMETER, MAX_Y, minerPos);
+        search.search();
+        return search.getOresToMine();
+    }
+
+    /**
+     * The search loop of {@link ThreadMinerSearch} from before it searched per chunk section, going through the chunks the same way the region it searched used to.
+     */
+    @Benchmark
+    public Long2ObjectMap<BitSet> perPosition() {
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
+        int size = DIAMETER * DIAMETER * (MAX_Y + 1);
+        Block info;
+        for (int i = 0; i < size; i++) {
+            BlockPos testPos = startingPos.offset(i % DIAMETER, i / DIAMETER / DIAMETER, (i / DIAMETER) % DIAMETER);
+            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, region, testPos) != null) {
+                //Skip the miner itself, and also skip any bounding blocks
+                continue;
+            }
+            BlockState state = region.getBlockState(testPos);
+            if (state.isAir(region, testPos) || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(region, testPos) < 0) {
+                //Skip air, blacklisted blocks, and unbreakable blocks
+                continue;
+            }
+            info = state.getBlock();
+            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
+                //Skip liquids
+                continue;
+            }
+            MinerFilter<?> filterFound = null;
+            if (acceptedItems.containsKey(info)) {
+                filterFound = acceptedItems.get(info);
+            } else {
+                for (MinerFilter<?> filter : filters) {
+                    if (filter.canFilter(state)) {
+                        filterFound = filter;
+                        break;
+                    }
+                }
+                acceptedItems.put(info, filterFound);
+            }
+            if (filterFound != null) {
+                long chunk = WorldUtils.getChunkPosAsLong(testPos);
+                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
+            }
+        }
+        return oresToMine;
+    }
+
+    /**
+     * Looks up blocks by the chunk they are in, the same way {@link net.minecraft.world.Region} does.
+     */
+    private static class ChunkRegion implements IBlockReader {
+
+        private final Long2ObjectMap<IChunk> chunks;
+
+        private ChunkRegion(Long2ObjectMap<IChunk> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Nullable
+        private IChunk getChunk(BlockPos pos) {
+            return chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        }
+
+        @Nullable
+        @Override
+        public TileEntity getBlockEntity(@Nonnull BlockPos pos) {
+            IChunk chunk = getChunk(pos);
+            return chunk == null ? null : chunk.getBlockEntity(pos);
+        }
+
+        @Nonnull
+        @Override
+        public BlockState getBlockState(@Nonnull BlockPos pos) {
+            IChunk chunk = getChunk(pos);
+            return chunk == null ? Blocks.AIR.defaultBlockState() : chunk.getBlockState(pos);
+        }
+
+        @Nonnull
+        @Override
+        public FluidState getFluidState(@Nonnull BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package mekanism.common.content.qio;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchQueryParserBenchmark {
+
+    @Param({"test", "test | test2", "@mod #tag $tool test", "$\"tooltip test\" test name #(tag1 | tag2) @mod"})
+    public String query;
+
+    @Benchmark
+    public ISearchQuery parse() {
+        return SearchQueryParser.parse(query);
+    }
+}
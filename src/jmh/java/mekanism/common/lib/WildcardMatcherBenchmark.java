@@ -0,0 +1,27 @@
+package mekanism.common.lib;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WildcardMatcherBenchmark {
+
+    @Param({"minecraft:*_ore", "*:ingots/*", "mekanism:?????_ore", "forge:ores/osmium"})
+    public String wildcard;
+
+    @Param({"minecraft:diamond_ore", "forge:ingots/osmium", "mekanism:osmium_block"})
+    public String text;
+
+    @Benchmark
+    public boolean matches() {
+        return WildcardMatcher.matches(wildcard, text);
+    }
+}
@@ -0,0 +1,62 @@
+package mekanism.common.lib.distribution;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerEnergyHandler;
+import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.util.EmitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks splitting an amount between a number of targets. A third of the targets accept everything, a third accept half of what they are offered, and a third
+ * accept nothing.
+ *
+ * @implNote Targets and handlers keep track of what they have accepted, so they have to be recreated for each distribution, which means the creation cost is included
+ * in the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistributionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int targets;
+
+    private int perType;
+    private FloatingLong energyToSend;
+
+    @Setup
+    public void setup() {
+        perType = targets / 3;
+        energyToSend = FloatingLong.createConst(1_000_000L * targets);
+    }
+
+    @Benchmark
+    public int integerDistribution() {
+        IntegerTarget target = DistributionTest.getTargets(perType, perType, perType);
+        int toSend = 1_000_000 * targets;
+        return EmitUtils.sendToAcceptors(target, toSend, toSend);
+    }
+
+    @Benchmark
+    public FloatingLong energyDistribution() {
+        EnergyAcceptorTarget target = new EnergyAcceptorTarget(3 * perType);
+        for (int i = 0; i < perType; i++) {
+            target.addHandler(new IntegerEnergyHandler(new InfiniteIntegerHandler()));
+            target.addHandler(new IntegerEnergyHandler(new PartialIntegerHandler()));
+            target.addHandler(new IntegerEnergyHandler(new SpecificAmountIntegerHandler(0)));
+        }
+        return EmitUtils.sendToAcceptors(target, energyToSend);
+    }
+}
@@ -0,0 +1,112 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.SharedConstants;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.palette.UpgradeData;
+import net.minecraft.util.registry.Bootstrap;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.chunk.IChunk;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Times the work a multiblock of the max size does on the main thread to validate its bounds on a worker thread: taking the snapshot, and checking it is still current
+ * when committing the result. {@link #perPosition()} copies and checks every block state and looks up the tile of any that can have one, which is how the snapshots
+ * were taken before only copying the sections. {@link #perSection()} uses the actual {@link StructureSnapshot}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StructureSnapshotBenchmark {
+
+    private static final int SIZE = 18;
+
+    private Long2ObjectMap<IChunk> chunks;
+    private BlockPos min;
+    private BlockPos max;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        //Place the bounds so that they go across sections in every direction
+        min = new BlockPos(8, 72, 8);
+        max = min.offset(SIZE - 1, SIZE - 1, SIZE - 1);
+        chunks = new Long2ObjectOpenHashMap<>();
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                ChunkPrimer chunk = new ChunkPrimer(new ChunkPos(chunkX, chunkZ), UpgradeData.EMPTY);
+                chunks.put(chunk.getPos().toLong(), chunk);
+            }
+        }
+        BlockState casing = Blocks.IRON_BLOCK.defaultBlockState();
+        BlockState inner = Blocks.WATER.defaultBlockState();
+        for (BlockPos pos : BlockPos.betweenClosed(min, max)) {
+            boolean wall = pos.getX() == min.getX() || pos.getX() == max.getX() || pos.getY() == min.getY() || pos.getY() == max.getY() ||
+                           pos.getZ() == min.getZ() || pos.getZ() == max.getZ();
+            chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4)).setBlockState(pos, wall ? casing : inner, false);
+        }
+    }
+
+    @Benchmark
+    public boolean perSection() {
+        StructureSnapshot snapshot = StructureSnapshot.create(chunks, Collections.emptyMap(), min, max);
+        return snapshot != null && snapshot.isCurrent(chunks);
+    }
+
+    @Benchmark
+    public boolean perPosition() {
+        int sizeX = max.getX() - min.getX() + 1, sizeY = max.getY() - min.getY() + 1, sizeZ = max.getZ() - min.getZ() + 1;
+        BlockState[] states = new BlockState[sizeX * sizeY * sizeZ];
+        Long2ObjectMap<Object> tiles = new Long2ObjectOpenHashMap<>();
+        BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+        int index = 0;
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    mutablePos.set(x, y, z);
+                    IChunk chunk = chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+                    BlockState state = chunk.getBlockState(mutablePos);
+                    states[index++] = state;
+                    if (state.hasTileEntity()) {
+                        Object tile = chunk.getBlockEntity(mutablePos);
+                        if (tile != null) {
+                            tiles.put(mutablePos.asLong(), tile);
+                        }
+                    }
+                }
+            }
+        }
+        //Check that the copy is still current the same way when the result gets committed
+        index = 0;
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    mutablePos.set(x, y, z);
+                    IChunk chunk = chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+                    BlockState state = chunk.getBlockState(mutablePos);
+                    if (state != states[index++]) {
+                        return false;
+                    }
+                    if (state.hasTileEntity() && chunk.getBlockEntity(mutablePos) != tiles.get(mutablePos.asLong())) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+}
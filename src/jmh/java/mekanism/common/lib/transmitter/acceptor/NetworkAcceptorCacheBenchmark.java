@@ -0,0 +1,134 @@
+package mekanism.common.lib.transmitter.acceptor;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.LazyOptional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Rebuilds the acceptor caches of a square grid of transmitters that has an acceptor above every fourth transmitter. Every side of every transmitter gets updated, the
+ * same as when the networks get created, in four networks that then get merged into one. {@link #packedLongKeys()} uses the actual {@link NetworkAcceptorCache}, and
+ * {@link #blockPosKeys()} uses the cache as it was when it was keyed by {@link BlockPos}.
+ *
+ * @implNote Run with {@code -PjmhInclude=NetworkAcceptorCacheBenchmark}, the gc profiler shows the allocation rate of each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NetworkAcceptorCacheBenchmark {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int NETWORKS = 4;
+
+    /**
+     * Width of the grid, 100 is a grid of 10k transmitters.
+     */
+    @Param({"32", "100"})
+    public int size;
+
+    private BlockPos[] transmitters;
+    private LazyOptional<Object> acceptor;
+
+    @Setup
+    public void setup() {
+        transmitters = new BlockPos[size * size];
+        for (int x = 0; x < size; x++) {
+            for (int z = 0; z < size; z++) {
+                transmitters[x * size + z] = new BlockPos(x, 64, z);
+            }
+        }
+        Object handler = new Object();
+        acceptor = LazyOptional.of(() -> handler);
+    }
+
+    private LazyOptional<Object> getAcceptor(BlockPos transmitter, Direction side) {
+        return side == Direction.UP && (transmitter.getX() + transmitter.getZ()) % 4 == 0 ? acceptor : LazyOptional.empty();
+    }
+
+    @Benchmark
+    public NetworkAcceptorCache<Object> packedLongKeys() {
+        @SuppressWarnings("unchecked")
+        NetworkAcceptorCache<Object>[] caches = new NetworkAcceptorCache[NETWORKS];
+        for (int i = 0; i < NETWORKS; i++) {
+            caches[i] = new NetworkAcceptorCache<>();
+        }
+        for (int i = 0; i < transmitters.length; i++) {
+            BlockPos transmitter = transmitters[i];
+            NetworkAcceptorCache<Object> cache = caches[i * NETWORKS / transmitters.length];
+            for (Direction side : DIRECTIONS) {
+                cache.updateAcceptor(transmitter.asLong(), side, getAcceptor(transmitter, side));
+            }
+        }
+        for (int i = 1; i < NETWORKS; i++) {
+            caches[0].adoptAcceptors(caches[i]);
+        }
+        return caches[0];
+    }
+
+    @Benchmark
+    public BlockPosAcceptorCache blockPosKeys() {
+        BlockPosAcceptorCache[] caches = new BlockPosAcceptorCache[NETWORKS];
+        for (int i = 0; i < NETWORKS; i++) {
+            caches[i] = new BlockPosAcceptorCache();
+        }
+        for (int i = 0; i < transmitters.length; i++) {
+            BlockPos transmitter = transmitters[i];
+            BlockPosAcceptorCache cache = caches[i * NETWORKS / transmitters.length];
+            for (Direction side : DIRECTIONS) {
+                cache.updateAcceptor(transmitter, side, getAcceptor(transmitter, side));
+            }
+        }
+        for (int i = 1; i < NETWORKS; i++) {
+            caches[0].adoptAcceptors(caches[i]);
+        }
+        return caches[0];
+    }
+
+    /**
+     * The cached acceptors of {@link NetworkAcceptorCache} as they were before they were keyed by packed longs, with the position of the transmitter passed in
+     * directly.
+     */
+    public static class BlockPosAcceptorCache {
+
+        private final Map<BlockPos, Map<Direction, LazyOptional<Object>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
+
+        private void updateAcceptor(BlockPos transmitterPos, Direction side, LazyOptional<Object> acceptor) {
+            BlockPos acceptorPos = transmitterPos.relative(side);
+            if (acceptor.isPresent()) {
+                cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+            } else if (cachedAcceptors.containsKey(acceptorPos)) {
+                Map<Direction, LazyOptional<Object>> cached = cachedAcceptors.get(acceptorPos);
+                cached.remove(side.getOpposite());
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            } else {
+                cachedAcceptors.remove(acceptorPos);
+            }
+        }
+
+        private void adoptAcceptors(BlockPosAcceptorCache other) {
+            for (Entry<BlockPos, Map<Direction, LazyOptional<Object>>> entry : other.cachedAcceptors.entrySet()) {
+                BlockPos pos = entry.getKey();
+                if (cachedAcceptors.containsKey(pos)) {
+                    Map<Direction, LazyOptional<Object>> cached = cachedAcceptors.get(pos);
+                    entry.getValue().forEach(cached::put);
+                } else {
+                    cachedAcceptors.put(pos, entry.getValue());
+                }
+            }
+        }
+    }
+}
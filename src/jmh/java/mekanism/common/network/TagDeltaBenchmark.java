@@ -0,0 +1,128 @@
+package mekanism.common.network;
+
+import io.netty.buffer.Unpooled;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.NBTUtil;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Simulates a second of update packets for a base full of boiler sized multiblocks that update every tick, and counts the bytes written when sending the full update
+ * tags against when sending {@link TagDelta}s. Divide the {@code bytes} counter by the {@code seconds} counter to get the bytes per second each approach sends to a
+ * player tracking the base.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagDeltaBenchmark {
+
+    private static final int MULTIBLOCKS = 32;
+    private static final int TICKS_PER_SECOND = 20;
+
+    private final PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+    private CompoundNBT[] lastSent;
+    private int tick;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        lastSent = new CompoundNBT[MULTIBLOCKS];
+        for (int i = 0; i < MULTIBLOCKS; i++) {
+            lastSent[i] = createUpdateTag(i, 0);
+        }
+        tick = 0;
+    }
+
+    @Benchmark
+    public void fullTags(SentBytes sent) {
+        for (int t = 0; t < TICKS_PER_SECOND; t++) {
+            tick++;
+            for (int i = 0; i < MULTIBLOCKS; i++) {
+                buffer.clear();
+                buffer.writeNbt(createUpdateTag(i, tick));
+                sent.bytes += buffer.writerIndex();
+            }
+        }
+        sent.seconds++;
+    }
+
+    @Benchmark
+    public void tagDeltas(SentBytes sent) {
+        for (int t = 0; t < TICKS_PER_SECOND; t++) {
+            tick++;
+            for (int i = 0; i < MULTIBLOCKS; i++) {
+                CompoundNBT updateTag = createUpdateTag(i, tick);
+                TagDelta delta = TagDelta.create(lastSent[i], updateTag);
+                lastSent[i] = updateTag;
+                if (!delta.isEmpty()) {
+                    buffer.clear();
+                    if (delta.size() < updateTag.size()) {
+                        delta.write(buffer);
+                    } else {
+                        buffer.writeNbt(updateTag);
+                    }
+                    sent.bytes += buffer.writerIndex();
+                }
+            }
+        }
+        sent.seconds++;
+    }
+
+    /**
+     * Creates an update tag shaped like the one of a formed boiler, where the water changes every tick, the steam every few ticks, and the rest stays the same.
+     */
+    private static CompoundNBT createUpdateTag(int index, int tick) {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("id", "mekanism:boiler_casing");
+        tag.putInt("x", index * 18);
+        tag.putInt("y", 64);
+        tag.putInt("z", 0);
+        tag.putBoolean("rendering", true);
+        tag.putBoolean("hasStructure", true);
+        tag.put("renderLocation", NBTUtil.writeBlockPos(new BlockPos(index * 18, 64, 0)));
+        tag.put("min", NBTUtil.writeBlockPos(new BlockPos(index * 18, 64, 0)));
+        tag.put("max", NBTUtil.writeBlockPos(new BlockPos(index * 18 + 17, 81, 17)));
+        tag.putUUID("inventoryID", new UUID(index, index));
+        int water = 1_000_000 - (tick * 1_000 + index * 37) % 500_000;
+        int steam = (tick / 4 * 10_000 + index * 53) % 2_000_000;
+        tag.putFloat("scale", water / 1_000_000F);
+        tag.putFloat("scaleAlt", steam / 2_000_000F);
+        tag.putInt("volume", 18 * 18 * 9);
+        tag.putInt("lowerVolume", 18 * 18 * 8);
+        CompoundNBT fluid = new CompoundNBT();
+        fluid.putString("FluidName", "minecraft:water");
+        fluid.putInt("Amount", water);
+        tag.put("fluidStored", fluid);
+        CompoundNBT gas = new CompoundNBT();
+        gas.putString("gasName", "mekanism:steam");
+        gas.putLong("amount", steam);
+        tag.put("gasStored", gas);
+        tag.put("renderY", NBTUtil.writeBlockPos(new BlockPos(index * 18, 73, 0)));
+        tag.putBoolean("hot", true);
+        return tag;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SentBytes {
+
+        public long bytes;
+        public long seconds;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            seconds = 0;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Queue;
 import java.util.Random;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.chunkloading.ChunkManager;
 import mekanism.common.lib.frequency.FrequencyManager;
@@ -82,6 +83,7 @@ public class CommonWorldTickHandler {
     private void serverTick() {
         FrequencyManager.tick();
         RadiationManager.INSTANCE.tickServer();
+        TransporterManager.tick();
     }
 
     private void tickEnd(ServerWorld world) {
@@ -65,7 +65,7 @@ import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
-import mekanism.common.network.to_client.PacketTransmitterUpdate;
+import mekanism.common.network.to_client.PacketTransmitterUpdate.TransmitterUpdate;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.bin.BinInsertRecipe;
 import mekanism.common.recipe.condition.ModVersionLoadedCondition;
@@ -107,6 +107,7 @@ import net.minecraftforge.event.RegisterCommandsEvent;
 import net.minecraftforge.event.RegistryEvent;
 import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.IEventBus;
@@ -191,6 +192,7 @@ public class Mekanism {
         MinecraftForge.EVENT_BUS.addListener(this::onLiquidTransferred);
         MinecraftForge.EVENT_BUS.addListener(this::chunkSave);
         MinecraftForge.EVENT_BUS.addListener(this::onChunkDataLoad);
+        MinecraftForge.EVENT_BUS.addListener(this::onChunkUnload);
         MinecraftForge.EVENT_BUS.addListener(this::onWorldLoad);
         MinecraftForge.EVENT_BUS.addListener(this::onWorldUnload);
         MinecraftForge.EVENT_BUS.addListener(this::registerCommands);
@@ -415,15 +417,15 @@ public class Mekanism {
     }
 
     private void onEnergyTransferred(EnergyTransferEvent event) {
-        packetHandler.sendToReceivers(new PacketTransmitterUpdate(event.network), event.network);
+        TransmitterNetworkRegistry.getInstance().queueTransmitterUpdate(event.network, new TransmitterUpdate(event.network));
     }
 
     private void onChemicalTransferred(ChemicalTransferEvent event) {
-        packetHandler.sendToReceivers(new PacketTransmitterUpdate(event.network, event.transferType), event.network);
+        TransmitterNetworkRegistry.getInstance().queueTransmitterUpdate(event.network, new TransmitterUpdate(event.network, event.transferType));
     }
 
     private void onLiquidTransferred(FluidTransferEvent event) {
-        packetHandler.sendToReceivers(new PacketTransmitterUpdate(event.network, event.fluidType), event.network);
+        TransmitterNetworkRegistry.getInstance().queueTransmitterUpdate(event.network, new TransmitterUpdate(event.network, event.fluidType));
     }
 
     private void chunkSave(ChunkDataEvent.Save event) {
@@ -445,6 +447,13 @@ public class Mekanism {
         }
     }
 
+    private void onChunkUnload(ChunkEvent.Unload event) {
+        IWorld world = event.getWorld();
+        if (world instanceof World && !world.isClientSide()) {
+            MultiblockManager.onChunkUnload(((World) world).dimension(), event.getChunk().getPos());
+        }
+    }
+
     private void onConfigLoad(ModConfig.ModConfigEvent configEvent) {
         //Note: We listen to both the initial load and the reload, so as to make sure that we fix any accidentally
         // cached values from calls before the initial loading
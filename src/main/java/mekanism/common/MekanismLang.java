@@ -131,6 +131,8 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_PATHFINDER("command", "debug.pathfinder"),
+    COMMAND_DEBUG_TILES("command", "debug.tiles"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
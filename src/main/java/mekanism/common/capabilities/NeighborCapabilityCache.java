@@ -0,0 +1,212 @@
+package mekanism.common.capabilities;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import mcp.MethodsReturnNonnullByDefault;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.common.integration.energy.EnergyCompatUtils;
+import mekanism.common.integration.energy.IEnergyCompat;
+import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.common.util.NonNullConsumer;
+
+/**
+ * Caches the tiles next to a tile and the capabilities they expose towards it, so that outputting to neighbors doesn't have to look them up in the world every tick.
+ * Capabilities are dropped from the cache when they get invalidated, and a side should be invalidated when the block on it changes. Sides that are not loaded are never
+ * returned from the cache.
+ *
+ * @apiNote Only use on the server side.
+ */
+@ParametersAreNonnullByDefault
+@MethodsReturnNonnullByDefault
+public class NeighborCapabilityCache {
+
+    private final TileEntity tile;
+    private final NeighborInfo[] neighbors = new NeighborInfo[EnumUtils.DIRECTIONS.length];
+    private final InvalidationListener[] listeners = new InvalidationListener[EnumUtils.DIRECTIONS.length];
+
+    public NeighborCapabilityCache(TileEntity tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * @return The tile on the given side, or {@code null} if there is no tile or the position is not loaded.
+     */
+    @Nullable
+    public TileEntity getNeighbor(Direction side) {
+        NeighborInfo info = getInfo(side);
+        return info == null ? null : info.neighbor;
+    }
+
+    /**
+     * Gets the capability the tile on the given side exposes on the side facing our tile.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> LazyOptional<T> getCapability(@Nullable Capability<T> capability, Direction side) {
+        NeighborInfo info = getInfo(side);
+        if (info == null || info.neighbor == null || capability == null) {
+            return LazyOptional.empty();
+        }
+        LazyOptional<?> cached = info.capabilities.get(capability);
+        if (cached == null) {
+            LazyOptional<T> lookup = CapabilityUtils.getCapability(info.neighbor, capability, side.getOpposite());
+            info.capabilities.put(capability, lookup);
+            if (lookup.isPresent()) {
+                //Drop the capability once it is invalidated so that we look it up again the next time it is needed
+                listen(side, capability, lookup);
+            }
+            return lookup;
+        }
+        return (LazyOptional<T>) cached;
+    }
+
+    /**
+     * Gets the energy handler the tile on the given side exposes on the side facing our tile, wrapping any of the supported energy capabilities.
+     */
+    public LazyOptional<IStrictEnergyHandler> getStrictEnergyHandler(Direction side) {
+        NeighborInfo info = getInfo(side);
+        if (info == null || info.neighbor == null) {
+            return LazyOptional.empty();
+        }
+        if (info.energyHandler == null) {
+            info.energyHandler = LazyOptional.empty();
+            for (IEnergyCompat energyCompat : EnergyCompatUtils.getCompats()) {
+                if (energyCompat.isUsable()) {
+                    //Note: Getting the capability makes sure we are listening to it, which drops the wrapped handler once the capability it wraps is invalidated
+                    LazyOptional<?> source = getCapability(energyCompat.getCapability(), side);
+                    if (source.isPresent()) {
+                        info.energyHandler = energyCompat.getLazyStrictEnergyHandler(info.neighbor, side.getOpposite());
+                        info.energySource = source;
+                        break;
+                    }
+                }
+            }
+        }
+        return info.energyHandler;
+    }
+
+    private void listen(Direction side, Capability<?> capability, LazyOptional<?> lookup) {
+        int index = side.ordinal();
+        InvalidationListener listener = listeners[index];
+        if (listener == null) {
+            listener = new InvalidationListener(this, side);
+            listeners[index] = listener;
+        }
+        //Neighbors keep returning the same instance until it gets invalidated, and we look the capabilities up again every time the side gets invalidated,
+        // so only add our listener when the instance changed to avoid piling up listeners on the neighbor
+        if (listener.listeningTo.put(capability, lookup) != lookup) {
+            CapabilityUtils.addListener(lookup, listener);
+        }
+    }
+
+    private void onInvalidated(Direction side, LazyOptional<?> invalidated) {
+        NeighborInfo info = neighbors[side.ordinal()];
+        if (info != null) {
+            removeInstance(info.capabilities, invalidated);
+            if (info.energySource == invalidated) {
+                //Drop the wrapped handler as the capability it wraps is no longer valid
+                info.energySource = null;
+                info.energyHandler = null;
+            }
+        }
+    }
+
+    /**
+     * Removes the capability that is mapped to the given instance, if there is one.
+     */
+    private static void removeInstance(Map<Capability<?>, LazyOptional<?>> capabilities, LazyOptional<?> instance) {
+        Capability<?> toRemove = null;
+        for (Map.Entry<Capability<?>, LazyOptional<?>> entry : capabilities.entrySet()) {
+            if (entry.getValue() == instance) {
+                toRemove = entry.getKey();
+                break;
+            }
+        }
+        if (toRemove != null) {
+            capabilities.remove(toRemove);
+        }
+    }
+
+    @Nullable
+    private NeighborInfo getInfo(Direction side) {
+        int index = side.ordinal();
+        NeighborInfo info = neighbors[index];
+        World world = tile.getLevel();
+        BlockPos pos = info == null ? tile.getBlockPos().relative(side) : info.pos;
+        //Check if the position is loaded on every access, as tiles in chunks that get unloaded are not marked as removed
+        if (!WorldUtils.isBlockLoaded(world, pos)) {
+            //Don't cache anything for positions that aren't loaded so that we check them again once they are
+            neighbors[index] = null;
+            return null;
+        }
+        if (info == null || info.neighbor != null && info.neighbor.isRemoved()) {
+            info = new NeighborInfo(pos, WorldUtils.getTileEntity(world, pos));
+            neighbors[index] = info;
+        }
+        return info;
+    }
+
+    /**
+     * Invalidates the cached tile and capabilities on the given side.
+     */
+    public void invalidate(Direction side) {
+        neighbors[side.ordinal()] = null;
+    }
+
+    public void invalidateAll() {
+        Arrays.fill(neighbors, null);
+    }
+
+    private static class NeighborInfo {
+
+        private final BlockPos pos;
+        @Nullable
+        private final TileEntity neighbor;
+        private final Map<Capability<?>, LazyOptional<?>> capabilities = new Reference2ObjectArrayMap<>();
+        @Nullable
+        private LazyOptional<IStrictEnergyHandler> energyHandler;
+        @Nullable
+        private LazyOptional<?> energySource;
+
+        private NeighborInfo(BlockPos pos, @Nullable TileEntity neighbor) {
+            this.pos = pos;
+            this.neighbor = neighbor;
+        }
+    }
+
+    private static class InvalidationListener implements NonNullConsumer<LazyOptional<?>> {
+
+        //Note: We only keep a weak reference to the cache from inside the listener so that if our tile gets unloaded it can be released from memory
+        // instead of being referenced by the listener still in the tile next to it
+        private final WeakReference<NeighborCapabilityCache> cache;
+        private final Direction side;
+        //The last instance of each capability we added this listener to
+        private final Map<Capability<?>, LazyOptional<?>> listeningTo = new Reference2ObjectArrayMap<>();
+
+        private InvalidationListener(NeighborCapabilityCache cache, Direction side) {
+            this.cache = new WeakReference<>(cache);
+            this.side = side;
+        }
+
+        @Override
+        public void accept(@Nonnull LazyOptional<?> invalidated) {
+            removeInstance(listeningTo, invalidated);
+            NeighborCapabilityCache neighborCache = cache.get();
+            if (neighborCache != null) {
+                neighborCache.onInvalidated(side, invalidated);
+            }
+        }
+    }
+}
@@ -12,6 +12,8 @@ import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.command.CommandSource;
 import net.minecraft.command.Commands;
@@ -19,10 +21,12 @@ import net.minecraft.command.arguments.ILocationArgument;
 import net.minecraft.command.arguments.Vec3Argument;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.GameRules;
+import net.minecraft.world.server.ServerWorld;
 
 public class CommandMek {
 
@@ -52,7 +56,33 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  })
+                  .then(Commands.literal("pathfinder")
+                        .executes(ctx -> {
+                            ctx.getSource().sendSuccess(MekanismLang.COMMAND_DEBUG_PATHFINDER.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                  PathfinderCache.getCachedPaths(), EnumColor.INDIGO, PathfinderCache.getCachedPositions(), EnumColor.INDIGO,
+                                  PathfinderCache.getHits(), EnumColor.INDIGO, PathfinderCache.getMisses(), EnumColor.INDIGO, PathfinderCache.getEvictions()), false);
+                            return 0;
+                        }))
+                  .then(Commands.literal("tiles")
+                        .executes(ctx -> {
+                            int awake = 0;
+                            int sleeping = 0;
+                            for (ServerWorld world : ctx.getSource().getServer().getAllLevels()) {
+                                for (TileEntity tile : world.blockEntityList) {
+                                    if (tile instanceof TileEntityMekanism && !tile.isRemoved()) {
+                                        if (((TileEntityMekanism) tile).isSleeping()) {
+                                            sleeping++;
+                                        } else {
+                                            awake++;
+                                        }
+                                    }
+                                }
+                            }
+                            ctx.getSource().sendSuccess(MekanismLang.COMMAND_DEBUG_TILES.translateColored(EnumColor.GRAY, EnumColor.INDIGO, awake, EnumColor.INDIGO,
+                                  sleeping), false);
+                            return 0;
+                        }));
         }
     }
 
@@ -47,6 +47,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue blockDeactivationDelay;
     public final CachedConfigValue<List<String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
+    public final CachedIntValue transmitterUpdateBudget;
     public final CachedIntValue maxUpgradeMultiplier;
     public final CachedDoubleValue boilerWaterConductivity;
     public final CachedDoubleValue heatPerFuelTick;
@@ -135,6 +136,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("cardboardModBlacklist", new ArrayList<>()));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, builder.comment("Allow right clicking on Cables/Pipes/Tubes with alloys to upgrade the tier.")
               .define("transmitterAlloyUpgrade", true));
+        transmitterUpdateBudget = CachedIntValue.wrap(this, builder.comment("Max number of bytes of transmitter network render updates (how full cables, pipes and tubes are) to send to each player per tick. If there are more updates, the ones for the networks closest to the player are sent first and the rest are delayed.")
+              .defineInRange("transmitterUpdateBudget", 4_096, 64, Integer.MAX_VALUE));
         //If this is less than 1, upgrades make machines worse. If less than 0, I don't even know.
         maxUpgradeMultiplier = CachedIntValue.wrap(this, builder.comment("Base factor for working out machine performance with upgrades - UpgradeModifier * (UpgradesInstalled/UpgradesPossible).")
               .defineInRange("maxUpgradeMultiplier", 10, 1, Integer.MAX_VALUE));
@@ -30,7 +30,7 @@ public class EvaporationValidator extends CuboidStructureValidator<EvaporationMu
 
     @Override
     protected FormationResult validateFrame(FormationProtocol<EvaporationMultiblockData> ctx, BlockPos pos, BlockState state, CasingType type, boolean needsFrame) {
-        boolean controller = structure.getTile(pos) instanceof TileEntityThermalEvaporationController;
+        boolean controller = getStructureTile(pos) instanceof TileEntityThermalEvaporationController;
         if (foundController && controller) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_CONTROLLER_CONFLICT, pos);
         }
@@ -38,6 +38,12 @@ public class EvaporationValidator extends CuboidStructureValidator<EvaporationMu
         return super.validateFrame(ctx, pos, state, type, needsFrame);
     }
 
+    @Override
+    protected boolean canValidateChanges() {
+        //Controller conflicts depend on all the frames, not just the ones that changed
+        return false;
+    }
+
     @Override
     protected StructureRequirement getStructureRequirement(BlockPos pos) {
         WallRelative relative = cuboid.getWallRelative(pos);
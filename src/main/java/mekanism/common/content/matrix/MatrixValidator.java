@@ -1,9 +1,8 @@
 package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
+import mekanism.common.MekanismLang;
 import mekanism.common.content.blocktype.BlockType;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
@@ -20,9 +19,6 @@ import net.minecraft.world.chunk.IChunk;
 
 public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockData> {
 
-    private final List<TileEntityInductionCell> cells = new ArrayList<>();
-    private final List<TileEntityInductionProvider> providers = new ArrayList<>();
-
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
@@ -39,27 +35,25 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
         if (super.validateInner(state, chunkMap, pos)) {
             return true;
         }
-        if (BlockType.is(state.getBlock(), MekanismBlockTypes.BASIC_INDUCTION_CELL, MekanismBlockTypes.ADVANCED_INDUCTION_CELL,
+        //Note: The tiles get looked up in the postcheck, as the inner nodes may not have been revalidated if they didn't change
+        return BlockType.is(state.getBlock(), MekanismBlockTypes.BASIC_INDUCTION_CELL, MekanismBlockTypes.ADVANCED_INDUCTION_CELL,
               MekanismBlockTypes.ELITE_INDUCTION_CELL, MekanismBlockTypes.ULTIMATE_INDUCTION_CELL, MekanismBlockTypes.BASIC_INDUCTION_PROVIDER,
-              MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER)) {
-            //Compare blocks against the type before bothering to lookup the tile
+              MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER);
+    }
+
+    @Override
+    public FormationResult postcheck(MatrixMultiblockData structure, Set<BlockPos> innerNodes, Long2ObjectMap<IChunk> chunkMap) {
+        for (BlockPos pos : innerNodes) {
             TileEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
             if (tile instanceof TileEntityInductionCell) {
-                cells.add((TileEntityInductionCell) tile);
-                return true;
+                structure.addCell((TileEntityInductionCell) tile);
             } else if (tile instanceof TileEntityInductionProvider) {
-                providers.add((TileEntityInductionProvider) tile);
-                return true;
+                structure.addProvider((TileEntityInductionProvider) tile);
+            } else {
+                //Something went wrong
+                return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
             }
-            //Else something went wrong
         }
-        return false;
-    }
-
-    @Override
-    public FormationResult postcheck(MatrixMultiblockData structure, Set<BlockPos> innerNodes, Long2ObjectMap<IChunk> chunkMap) {
-        cells.forEach(structure::addCell);
-        providers.forEach(structure::addProvider);
         return FormationResult.SUCCESS;
     }
 }
\ No newline at end of file
@@ -2,103 +2,207 @@ package mekanism.common.content.miner;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.block.BlockBounding;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.tags.MekanismTags;
-import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.FlowingFluidBlock;
+import net.minecraft.item.Item;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.Region;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.IChunk;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch implements Runnable {
 
     private final TileEntityDigitalMiner tile;
     private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
-    private Region chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    //Whether a block state would be mined if it is at a position that can be mined
+    private final Reference2BooleanMap<BlockState> acceptedStates = new Reference2BooleanOpenHashMap<>();
+    private final List<IChunk> chunks = new ArrayList<>();
+    private List<MinerFilter<?>> filters = Collections.emptyList();
+    private boolean inverse;
+    private Predicate<Item> replaceTarget;
+    private BooleanSupplier removed;
+    private BlockPos startingPos;
+    private BlockPos minerPos;
+    private int diameter;
+    private int maxY;
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
+    public volatile int found = 0;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
     }
 
-    public void setChunkCache(Region cache) {
-        this.chunkCache = cache;
+    /**
+     * Creates a search through the given chunks that isn't attached to a miner, so that the benchmarks can time the actual search without needing a world.
+     */
+    ThreadMinerSearch(List<IChunk> chunks, List<MinerFilter<?>> filters, boolean inverse, BlockPos startingPos, int diameter, int maxY, BlockPos minerPos) {
+        this.tile = null;
+        this.chunks.addAll(chunks);
+        this.filters = filters;
+        this.inverse = inverse;
+        this.startingPos = startingPos;
+        this.diameter = diameter;
+        this.maxY = maxY;
+        this.minerPos = minerPos;
+        this.replaceTarget = item -> false;
+        this.removed = () -> false;
+    }
+
+    /**
+     * Starts searching on the miner search worker pool. This grabs the chunks that need to be searched, and the miner's filters so should be called from the main thread. Chunks
+     * in the area that aren't loaded get loaded, so that no ores are left out of what the miner will mine.
+     */
+    public void start() {
+        World world = tile.getLevel();
+        startingPos = tile.getStartingPos();
+        diameter = tile.getDiameter();
+        maxY = tile.getMaxY();
+        minerPos = tile.getBlockPos();
+        int maxX = startingPos.getX() + diameter - 1, maxZ = startingPos.getZ() + diameter - 1;
+        for (int chunkX = startingPos.getX() >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = startingPos.getZ() >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                //Note: We load any chunks that aren't loaded the same way the region we used to search through did, as the ores in them would otherwise
+                // never be mined until the miner gets reset
+                chunks.add(world.getChunk(chunkX, chunkZ));
+            }
+        }
+        filters = new ArrayList<>(tile.getFilters());
+        inverse = tile.getInverse();
+        replaceTarget = tile::isReplaceTarget;
+        removed = tile::isRemoved;
+        state = State.SEARCHING;
+        WorkerPool.MINER_SEARCH.execute(this);
+    }
+
+    /**
+     * Stops the search, no results will be given to the miner.
+     */
+    public void cancel() {
+        cancelled = true;
     }
 
     @Override
     public void run() {
-        state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.getInverse() && filters.isEmpty()) {
+        if (!inverse && filters.isEmpty()) {
             state = State.FINISHED;
             return;
         }
-        Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
-        int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            BlockPos testPos = pos.offset(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir(chunkCache, testPos) || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (info instanceof FlowingFluidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
-            }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
+        if (!search()) {
+            return;
+        }
+        state = State.FINISHED;
+        tile.oresToMine = oresToMine;
+        chunks.clear();
+        tile.markDirty(false);
+        tile.cachedToMine = found;
+    }
+
+    /**
+     * Goes through the area a chunk section at a time, adding everything that should be mined to {@link #oresToMine}.
+     *
+     * @return {@code false} if the search got cancelled.
+     */
+    boolean search() {
+        int minX = startingPos.getX(), minY = startingPos.getY(), minZ = startingPos.getZ();
+        int maxX = minX + diameter - 1, maxZ = minZ + diameter - 1;
+        BlockPos.Mutable testPos = new BlockPos.Mutable();
+        //Go through the area a chunk section at a time so that we can skip any sections that don't have any blocks we want to mine
+        for (IChunk chunk : chunks) {
+            ChunkPos chunkPos = chunk.getPos();
+            long chunkKey = chunkPos.toLong();
+            int startX = Math.max(minX, chunkPos.getMinBlockX()), endX = Math.min(maxX, chunkPos.getMaxBlockX());
+            int startZ = Math.max(minZ, chunkPos.getMinBlockZ()), endZ = Math.min(maxZ, chunkPos.getMaxBlockZ());
+            ChunkSection[] sections = chunk.getSections();
+            for (int sectionY = minY >> 4; sectionY <= maxY >> 4 && sectionY < sections.length; sectionY++) {
+                if (cancelled || removed.getAsBoolean()) {
+                    //Make sure the miner is still valid and something hasn't gone wrong
+                    return false;
+                }
+                ChunkSection section = sections[sectionY];
+                if (ChunkSection.isEmpty(section) || !section.maybeHas(this::isAccepted)) {
+                    //Skip sections that are empty or that only contain blocks we won't mine
                     continue;
                 }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
+                int startY = Math.max(minY, sectionY << 4), endY = Math.min(maxY, (sectionY << 4) + 15);
+                for (int y = startY; y <= endY; y++) {
+                    for (int z = startZ; z <= endZ; z++) {
+                        for (int x = startX; x <= endX; x++) {
+                            BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                            if (!isAccepted(state)) {
+                                continue;
+                            }
+                            testPos.set(x, y, z);
+                            if (minerPos.equals(testPos) || state.isAir(chunk, testPos) || state.getDestroySpeed(chunk, testPos) < 0) {
+                                //Skip the miner itself, air, and unbreakable blocks
+                                continue;
+                            }
+                            int index = ((y - minY) * diameter + z - minZ) * diameter + x - minX;
+                            oresToMine.computeIfAbsent(chunkKey, k -> new BitSet()).set(index);
+                            found++;
+                        }
                     }
                 }
-                acceptedItems.put(info, filterFound);
-            }
-            if (tile.getInverse() == (filterFound == null)) {
-                long chunk = WorldUtils.getChunkPosAsLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
             }
         }
+        return !cancelled;
+    }
 
-        state = State.FINISHED;
-        tile.oresToMine = oresToMine;
-        chunkCache = null;
-        tile.markDirty(false);
-        tile.cachedToMine = found;
+    /**
+     * @return The positions of everything the search found to mine, by chunk.
+     */
+    Long2ObjectMap<BitSet> getOresToMine() {
+        return oresToMine;
+    }
+
+    private boolean isAccepted(BlockState state) {
+        if (acceptedStates.containsKey(state)) {
+            return acceptedStates.getBoolean(state);
+        }
+        boolean accepted = calculateAccepted(state);
+        acceptedStates.put(state, accepted);
+        return accepted;
+    }
+
+    private boolean calculateAccepted(BlockState state) {
+        Block block = state.getBlock();
+        if (block instanceof BlockBounding || state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
+            //Skip bounding blocks and blacklisted blocks
+            return false;
+        } else if (block instanceof FlowingFluidBlock || block instanceof IFluidBlock) {
+            //Skip liquids
+            return false;
+        } else if (replaceTarget.test(block.asItem())) {
+            return false;
+        }
+        MinerFilter<?> filterFound = null;
+        for (MinerFilter<?> filter : filters) {
+            if (filter.canFilter(state)) {
+                filterFound = filter;
+                break;
+            }
+        }
+        return inverse == (filterFound == null);
     }
 
     public enum State implements IHasTextComponent {
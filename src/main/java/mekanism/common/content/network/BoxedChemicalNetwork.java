@@ -78,11 +78,6 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         slurryTanks = Collections.singletonList(chemicalTank.getSlurryTank());
     }
 
-    public BoxedChemicalNetwork(Collection<BoxedChemicalNetwork> networks) {
-        this();
-        adoptAllAndRegister(networks);
-    }
-
     public boolean isTankEmpty() {
         return chemicalTank.getCurrent() == Current.EMPTY;
     }
@@ -45,11 +45,6 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         energyContainers = Collections.singletonList(energyContainer);
     }
 
-    public EnergyNetwork(Collection<EnergyNetwork> networks) {
-        this();
-        adoptAllAndRegister(networks);
-    }
-
     @Override
     protected void forceScaleUpdate() {
         if (!energyContainer.isEmpty() && !energyContainer.getMaxEnergy().isZero()) {
@@ -51,11 +51,6 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         fluidTanks = Collections.singletonList(fluidTank);
     }
 
-    public FluidNetwork(Collection<FluidNetwork> networks) {
-        this();
-        adoptAllAndRegister(networks);
-    }
-
     @Override
     protected void forceScaleUpdate() {
         if (!fluidTank.isEmpty() && fluidTank.getCapacity() > 0) {
@@ -1,6 +1,5 @@
 package mekanism.common.content.network;
 
-import java.util.Collection;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.HeatAPI.HeatTransfer;
@@ -25,10 +24,6 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
         super(networkID);
     }
 
-    public HeatNetwork(Collection<HeatNetwork> networks) {
-        adoptAllAndRegister(networks);
-    }
-
     @Override
     public ITextComponent getStoredInfo() {
         return MekanismLang.HEAT_NETWORK_STORED.translate(MekanismUtils.getTemperatureDisplay(meanTemp, TemperatureUnit.KELVIN, true));
@@ -1,9 +1,13 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -38,7 +42,7 @@ import net.minecraftforge.items.IItemHandler;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
-    private final Map<BlockPos, LogisticalTransporterBase> positionedTransmitters = new Object2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<LogisticalTransporterBase> positionedTransmitters = new Long2ObjectOpenHashMap<>();
 
     public InventoryNetwork() {
     }
@@ -47,39 +51,87 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         super(networkID);
     }
 
-    public InventoryNetwork(Collection<InventoryNetwork> networks) {
-        adoptAllAndRegister(networks);
+    public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+        return calculateAcceptors(Collections.singletonList(request), Collections.singletonList(stack), chunkMap).get(0);
     }
 
-    public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
-        List<AcceptorData> toReturn = new ArrayList<>();
-        for (Map.Entry<BlockPos, Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
-            BlockPos pos = entry.getKey();
-            if (!pos.equals(stack.homeLocation)) {
-                TileEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
-                if (acceptor == null) {
-                    continue;
-                }
-                Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
-                Coord4D position = new Coord4D(pos, getWorld());
-                for (Map.Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
-                    Optional<IItemHandler> handler = acceptorEntry.getValue().resolve();
-                    if (handler.isPresent()) {
-                        Direction side = acceptorEntry.getKey();
-                        //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
-                        // actually need to even query the TE
-                        if (acceptor instanceof ISideConfiguration) {
-                            //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
-                            ISideConfiguration config = (ISideConfiguration) acceptor;
-                            if (config.getEjector().hasStrictInput()) {
-                                EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getDirection(), side));
-                                if (configColor != null && configColor != stack.color) {
-                                    continue;
-                                }
-                            }
+    /**
+     * Calculates the acceptors for multiple requests at once. Each acceptor is only looked up once, and the contents of each destination are only predicted once for
+     * all the requests instead of once per request.
+     *
+     * @param requests Requests to calculate the acceptors for.
+     * @param stacks   The stack each request would be sent as, in the same order as the requests.
+     *
+     * @return The acceptors of each request, in the same order as the requests.
+     */
+    public List<List<AcceptorData>> calculateAcceptors(List<TransitRequest> requests, List<TransporterStack> stacks, Long2ObjectMap<IChunk> chunkMap) {
+        int count = requests.size();
+        List<List<AcceptorData>> toReturn = new ArrayList<>(count);
+        //Compare the packed positions against the home locations so that we only unpack the positions of acceptors we may send a stack to
+        boolean[] hasHome = new boolean[count];
+        long[] homePos = new long[count];
+        for (int i = 0; i < count; i++) {
+            toReturn.add(new ArrayList<>());
+            TransporterStack stack = stacks.get(i);
+            hasHome[i] = stack.homeLocation != null;
+            if (hasHome[i]) {
+                homePos[i] = stack.homeLocation.asLong();
+            }
+        }
+        //The requests that may be sent to the side of the acceptor we are currently checking, and their index in the given requests
+        List<TransitRequest> sideRequests = new ArrayList<>(count);
+        IntList sideIndices = new IntArrayList(count);
+        for (Long2ObjectMap.Entry<Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
+            long acceptorPos = entry.getLongKey();
+            if (!isAnyAwayFromHome(hasHome, homePos, acceptorPos)) {
+                continue;
+            }
+            BlockPos pos = BlockPos.of(acceptorPos);
+            TileEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
+            if (acceptor == null) {
+                continue;
+            }
+            //Matching responses of each request to the destination, created only once any request has a response for it
+            Int2ObjectMap<Map<TransitResponse, AcceptorData>> dataMaps = null;
+            Coord4D position = new Coord4D(pos, getWorld());
+            for (Map.Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
+                Optional<IItemHandler> handler = acceptorEntry.getValue().resolve();
+                if (handler.isPresent()) {
+                    Direction side = acceptorEntry.getKey();
+                    //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
+                    // actually need to even query the TE
+                    EnumColor configColor = null;
+                    if (acceptor instanceof ISideConfiguration) {
+                        //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
+                        ISideConfiguration config = (ISideConfiguration) acceptor;
+                        if (config.getEjector().hasStrictInput()) {
+                            configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getDirection(), side));
+                        }
+                    }
+                    sideRequests.clear();
+                    sideIndices.clear();
+                    for (int i = 0; i < count; i++) {
+                        if ((!hasHome[i] || homePos[i] != acceptorPos) && (configColor == null || configColor == stacks.get(i).color)) {
+                            sideRequests.add(requests.get(i));
+                            sideIndices.add(i);
                         }
-                        TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler.get(), request);
+                    }
+                    if (sideRequests.isEmpty()) {
+                        continue;
+                    }
+                    TransitResponse[] responses = TransporterManager.getPredictedInserts(position, side, handler.get(), sideRequests);
+                    for (int j = 0; j < responses.length; j++) {
+                        TransitResponse response = responses[j];
                         if (!response.isEmpty()) {
+                            int index = sideIndices.getInt(j);
+                            if (dataMaps == null) {
+                                dataMaps = new Int2ObjectOpenHashMap<>();
+                            }
+                            Map<TransitResponse, AcceptorData> dataMap = dataMaps.get(index);
+                            if (dataMap == null) {
+                                dataMap = new HashMap<>();
+                                dataMaps.put(index, dataMap);
+                            }
                             Direction opposite = side.getOpposite();
                             //If the response isn't empty, check if we already have acceptor data for
                             // a matching response at the destination
@@ -88,7 +140,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                                 //If we don't, add a new acceptor data for the response and position with side
                                 data = new AcceptorData(pos, response, opposite);
                                 dataMap.put(response, data);
-                                toReturn.add(data);
+                                toReturn.get(index).add(data);
                                 //Note: In theory this shouldn't cause any issues if some exposed slots overlap but are for
                                 // different acceptor data/sides as our predicted insert takes into account all en-route
                                 // items to the destination, and only checks about the side if none are actually able to be
@@ -106,21 +158,30 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    private static boolean isAnyAwayFromHome(boolean[] hasHome, long[] homePos, long acceptorPos) {
+        for (int i = 0; i < hasHome.length; i++) {
+            if (!hasHome[i] || homePos[i] != acceptorPos) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Nullable
     public LogisticalTransporterBase getTransmitter(BlockPos pos) {
-        return positionedTransmitters.get(pos);
+        return positionedTransmitters.get(pos.asLong());
     }
 
     @Override
     protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
         super.addTransmitterFromCommit(transmitter);
-        positionedTransmitters.put(transmitter.getTilePos(), transmitter);
+        positionedTransmitters.put(transmitter.getTilePos().asLong(), transmitter);
     }
 
     @Override
     public void addTransmitter(LogisticalTransporterBase transmitter) {
         super.addTransmitter(transmitter);
-        positionedTransmitters.put(transmitter.getTilePos(), transmitter);
+        positionedTransmitters.put(transmitter.getTilePos().asLong(), transmitter);
     }
 
     @Override
@@ -131,7 +192,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
 
     private void removePositionedTransmitter(LogisticalTransporterBase transmitter) {
         BlockPos pos = transmitter.getTilePos();
-        LogisticalTransporterBase currentTransmitter = positionedTransmitters.get(pos);
+        LogisticalTransporterBase currentTransmitter = positionedTransmitters.get(pos.asLong());
         if (currentTransmitter != null) {
             //This shouldn't be null but if it is don't bother attempting to remove
             if (currentTransmitter != transmitter) {
@@ -149,7 +210,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                 }
                 Mekanism.logger.warn("Removed transmitter at position: {} in {} was different than expected.", pos, world == null ? null : world.dimension().location());
             }
-            positionedTransmitters.remove(pos);
+            positionedTransmitters.remove(pos.asLong());
         }
     }
 
@@ -169,22 +230,35 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     @Override
     public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
         positionedTransmitters.putAll(net.positionedTransmitters);
+        // the merged network may contain shorter paths, so invalidate our cached ones
+        PathfinderCache.onChanged(this);
         return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        // only paths that end at the changed acceptor need to be recalculated
+        PathfinderCache.onAcceptorChanged(this, transmitter.getTilePos().relative(side));
+    }
+
     @Override
     public void commit() {
+        boolean transmittersAdded = !transmittersToAdd.isEmpty();
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        if (transmittersAdded) {
+            // update the cache when the network has been changed (called when transmitters are added)
+            //Note: Connection changes that don't add transmitters get handled by the transporters whose connections changed
+            PathfinderCache.onChanged(this);
+        }
     }
 
     @Override
     public void deregister() {
         super.deregister();
         positionedTransmitters.clear();
-        // update the cache when the network has been removed (when transmitters are removed)
-        PathfinderCache.onChanged(this);
+        // the network is gone, so drop everything that is cached for it
+        PathfinderCache.onDeregistered(this);
     }
 
     @Override
@@ -22,11 +22,26 @@ public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingL
 
     @Override
     protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        splitInfo.send(getAccepted(amount, handler.insertEnergy(amount, Action.EXECUTE)));
     }
 
     @Override
     protected FloatingLong simulate(IStrictEnergyHandler handler, FloatingLong energyToSend) {
-        return energyToSend.subtract(handler.insertEnergy(energyToSend, Action.SIMULATE));
+        return getAccepted(energyToSend, handler.insertEnergy(energyToSend, Action.SIMULATE));
+    }
+
+    /**
+     * Calculates how much of the offered amount was accepted, without creating a new {@link FloatingLong} when the handler either accepted all of it or none of it, which
+     * are by far the most common results when distributing across a large number of acceptors.
+     *
+     * @implNote The returned value may be the offered {@link FloatingLong} itself so must not be modified.
+     */
+    private static FloatingLong getAccepted(FloatingLong offered, FloatingLong remainder) {
+        if (remainder.isZero()) {
+            return offered;
+        } else if (remainder == offered || remainder.equals(offered)) {
+            return FloatingLong.ZERO;
+        }
+        return offered.subtract(remainder);
     }
 }
\ No newline at end of file
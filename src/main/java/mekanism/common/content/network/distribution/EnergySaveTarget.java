@@ -63,7 +63,7 @@ public class EnergySaveTarget extends Target<EnergySaveTarget.SaveHandler, Float
         }
 
         protected FloatingLong simulate(FloatingLong energyToSend) {
-            return energyToSend.copy().min(delegate.getMaxEnergy().subtract(currentStored));
+            return energyToSend.min(delegate.getMaxEnergy().subtract(currentStored));
         }
 
         protected void save() {
@@ -45,7 +45,7 @@ public class EnergyTransmitterSaveTarget extends Target<EnergyTransmitterSaveTar
         }
 
         protected FloatingLong simulate(FloatingLong energyToSend) {
-            return energyToSend.copy().min(transmitter.getCapacityAsFloatingLong().subtract(currentStored));
+            return energyToSend.min(transmitter.getCapacityAsFloatingLong().subtract(currentStored));
         }
 
         protected void saveShare() {
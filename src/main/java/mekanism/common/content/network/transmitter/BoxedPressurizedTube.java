@@ -1,6 +1,5 @@
 package mekanism.common.content.network.transmitter;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -227,11 +226,6 @@ public class BoxedPressurizedTube extends BufferedTransmitter<BoxedChemicalHandl
         return new BoxedChemicalNetwork(networkID);
     }
 
-    @Override
-    public BoxedChemicalNetwork createNetworkByMerging(Collection<BoxedChemicalNetwork> toMerge) {
-        return new BoxedChemicalNetwork(toMerge);
-    }
-
     @Override
     public boolean isValidTransmitter(Transmitter<?, ?, ?> transmitter) {
         if (super.isValidTransmitter(transmitter) && transmitter instanceof BoxedPressurizedTube) {
@@ -2,19 +2,27 @@ package mekanism.common.content.network.transmitter;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterPathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.TransitRequest;
@@ -37,6 +45,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
+import org.apache.commons.lang3.tuple.Pair;
 
 public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
@@ -99,6 +108,28 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return super.isValidAcceptor(tile, side) && getAcceptorCache().isAcceptorAndListen(tile, side, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
     }
 
+    @Override
+    public void refreshConnections() {
+        byte connections = getAllCurrentConnections();
+        super.refreshConnections();
+        onConnectionsRefreshed(connections);
+    }
+
+    @Override
+    public void refreshConnections(Direction side) {
+        byte connections = getAllCurrentConnections();
+        super.refreshConnections(side);
+        onConnectionsRefreshed(connections);
+    }
+
+    private void onConnectionsRefreshed(byte previousConnections) {
+        //Connections can change without the network being rebuilt (for example from redstone, diversion modes or re-enabling a side that connects
+        // to a transporter in the same network), so make sure that paths cached while the connections were different don't keep getting used
+        if (previousConnections != getAllCurrentConnections() && hasTransmitterNetwork()) {
+            PathfinderCache.onChanged(getTransmitterNetwork());
+        }
+    }
+
     public void tick() {
         if (isRemote()) {
             for (TransporterStack stack : transit.values()) {
@@ -269,11 +300,6 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return new InventoryNetwork(networkID);
     }
 
-    @Override
-    public InventoryNetwork createNetworkByMerging(Collection<InventoryNetwork> networks) {
-        return new InventoryNetwork(networks);
-    }
-
     @Nonnull
     @Override
     public CompoundNBT getReducedUpdateTag(CompoundNBT updateTag) {
@@ -394,6 +420,47 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         return insert(outputter, request, color, doEmit, stack -> stack.recalculateRRPath(request, outputter, this, min));
     }
 
+    /**
+     * Inserts the first of the given requests that can be sent anywhere. The acceptors for all the requests are calculated in one go, so that each destination only
+     * has to be looked up and have its contents predicted once instead of once per request.
+     *
+     * @param colors     The color to send each request as, in the same order as the requests.
+     * @param mins       The min amount of each request that has to be sent, in the same order as the requests.
+     * @param roundRobin {@code true} to send the request to the next round robin destination of the sorter instead of the closest destination.
+     *
+     * @return The response of the request that was sent, or {@code null} if none of them could be sent.
+     */
+    @Nullable
+    public TransitResponse insertFirst(TileEntityLogisticalSorter outputter, List<TransitRequest> requests, List<EnumColor> colors, IntList mins, boolean roundRobin,
+          boolean doEmit) {
+        BlockPos outputterPos = outputter.getBlockPos();
+        Direction from = WorldUtils.sideDifference(getTilePos(), outputterPos);
+        if (from == null || !canReceiveFrom(from.getOpposite())) {
+            return null;
+        }
+        List<TransitRequest> insertableRequests = new ArrayList<>(requests.size());
+        List<TransporterStack> stacks = new ArrayList<>(requests.size());
+        IntList insertableMins = new IntArrayList(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            TransporterStack stack = insertStack(outputterPos, colors.get(i));
+            if (stack.canInsertToTransporterNN(this, from, outputter)) {
+                insertableRequests.add(requests.get(i));
+                stacks.add(stack);
+                insertableMins.add(mins.getInt(i));
+            }
+        }
+        if (stacks.isEmpty()) {
+            return null;
+        }
+        Pair<Integer, Destination> found = TransporterPathfinder.getFirstPath(this, stacks, insertableRequests, insertableMins, roundRobin ? outputter : null);
+        if (found == null) {
+            return null;
+        }
+        int index = found.getLeft();
+        TransporterStack stack = stacks.get(index);
+        return updateTransit(doEmit, stack, stack.setDestination(insertableRequests.get(index), this, found.getRight()));
+    }
+
     private TransitResponse insert(TileEntity outputter, TransitRequest request, EnumColor color, boolean doEmit,
           Function<TransporterStack, TransitResponse> pathCalculator) {
         BlockPos outputterPos = outputter.getBlockPos();
@@ -1,6 +1,5 @@
 package mekanism.common.content.network.transmitter;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -173,11 +172,6 @@ public class MechanicalPipe extends BufferedTransmitter<IFluidHandler, FluidNetw
         return new FluidNetwork(networkID);
     }
 
-    @Override
-    public FluidNetwork createNetworkByMerging(Collection<FluidNetwork> networks) {
-        return new FluidNetwork(networks);
-    }
-
     @Override
     protected boolean canHaveIncompatibleNetworks() {
         return true;
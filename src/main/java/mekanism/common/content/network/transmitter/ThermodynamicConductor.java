@@ -1,6 +1,5 @@
 package mekanism.common.content.network.transmitter;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -66,11 +65,6 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
         return new HeatNetwork(networkID);
     }
 
-    @Override
-    public HeatNetwork createNetworkByMerging(Collection<HeatNetwork> networks) {
-        return new HeatNetwork(networks);
-    }
-
     @Override
     public void takeShare() {
     }
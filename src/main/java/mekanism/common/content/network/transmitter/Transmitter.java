@@ -1,7 +1,6 @@
 package mekanism.common.content.network.transmitter;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
@@ -199,8 +198,6 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     public abstract NETWORK createEmptyNetworkWithID(UUID networkID);
 
-    public abstract NETWORK createNetworkByMerging(Collection<NETWORK> toMerge);
-
     public NETWORK getExternalNetwork(BlockPos from) {
         TileEntityTransmitter transmitter = WorldUtils.getTileEntity(TileEntityTransmitter.class, getTileWorld(), from);
         if (transmitter != null && supportsTransmissionType(transmitter)) {
@@ -413,6 +410,7 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
         //Transmitter
         if (hasTransmitterNetwork()) {
             updateTag.putUUID(NBTConstants.NETWORK, getTransmitterNetwork().getUUID());
+            updateTag.putInt(NBTConstants.NETWORK_SESSION, getTransmitterNetwork().getSessionId());
         }
         return updateTag;
     }
@@ -432,6 +430,7 @@ public abstract class Transmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
             DynamicNetwork<?, ?, ?> clientNetwork = TransmitterNetworkRegistry.getInstance().getClientNetwork(networkID);
             if (clientNetwork == null) {
                 NETWORK network = createEmptyNetworkWithID(networkID);
+                NBTUtils.setIntIfPresent(tag, NBTConstants.NETWORK_SESSION, network::setSessionId);
                 network.register();
                 setTransmitterNetwork(network);
                 handleContentsUpdateTag(network, tag);
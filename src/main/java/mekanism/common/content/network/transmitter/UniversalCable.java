@@ -1,6 +1,5 @@
 package mekanism.common.content.network.transmitter;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -146,11 +145,6 @@ public class UniversalCable extends BufferedTransmitter<IStrictEnergyHandler, En
         return nbtTags;
     }
 
-    @Override
-    public EnergyNetwork createNetworkByMerging(Collection<EnergyNetwork> networks) {
-        return new EnergyNetwork(networks);
-    }
-
     @Override
     public boolean isValidAcceptor(TileEntity tile, Direction side) {
         return super.isValidAcceptor(tile, side) && getAcceptorCache().hasStrictEnergyHandlerAndListen(tile, side);
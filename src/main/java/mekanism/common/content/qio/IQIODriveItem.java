@@ -1,5 +1,6 @@
 package mekanism.common.content.qio;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import mekanism.api.NBTConstants;
 import mekanism.common.lib.inventory.HashedItem;
@@ -12,34 +13,77 @@ import net.minecraftforge.common.util.Constants.NBT;
 public interface IQIODriveItem {
 
     default boolean hasStoredItemMap(ItemStack stack) {
-        return ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST);
+        return ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST) || ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST);
     }
 
-    default void loadItemMap(ItemStack stack, QIODriveData data) {
-        if (hasStoredItemMap(stack)) {
+    /**
+     * Loads the items stored on the given drive into the given map, in the order they are stored on the drive.
+     *
+     * @return {@code true} if the stored data does not match the loaded map one to one and needs to be fully rewritten, for example if it was stored in the legacy
+     * format or some item types could not be read.
+     */
+    default boolean loadItemMap(ItemStack stack, Object2LongMap<HashedItem> itemMap) {
+        if (ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST)) {
+            ListNBT types = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_TYPES);
+            long[] counts = ItemDataUtils.getLongArray(stack, NBTConstants.QIO_ITEM_COUNTS);
+            boolean needsRewrite = types.size() != counts.length;
+            for (int i = 0, size = Math.min(types.size(), counts.length); i < size; i++) {
+                ItemStack itemType = ItemStack.of(types.getCompound(i));
+                if (itemType.isEmpty()) {
+                    //Only add the item if the item could be read. If it can't that means the mod adding the item was probably removed
+                    //TODO: Eventually we may want to keep the NBT so that if the mod gets added back it exists again
+                    needsRewrite = true;
+                } else {
+                    itemMap.put(HashedItem.create(itemType), counts[i]);
+                }
+            }
+            return needsRewrite;
+        } else if (ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_MAP, NBT.TAG_LIST)) {
+            //Legacy format, load it and mark that it should be rewritten in the new format
             ListNBT list = ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_MAP);
             for (int i = 0; i < list.size(); i++) {
                 CompoundNBT tag = list.getCompound(i);
                 ItemStack itemType = ItemStack.of(tag.getCompound(NBTConstants.ITEM));
                 if (!itemType.isEmpty()) {
-                    //Only add the item if the item could be read. If it can't that means the mod adding the item was probably removed
-                    //TODO: Eventually we may want to keep the NBT so that if the mod gets added back it exists again
-                    long count = tag.getLong(NBTConstants.AMOUNT);
-                    data.getItemMap().put(HashedItem.create(itemType), count);
+                    itemMap.put(HashedItem.create(itemType), tag.getLong(NBTConstants.AMOUNT));
                 }
             }
+            return true;
+        }
+        return false;
+    }
+
+    default void writeItemMap(ItemStack stack, QIODriveData data) {
+        if (!data.hasTypeChanges() && ItemDataUtils.hasData(stack, NBTConstants.QIO_ITEM_TYPES, NBT.TAG_LIST)) {
+            //If the types stored haven't changed since we last loaded or wrote the drive, we only need to update the counts
+            writeItemCounts(stack, data.getItemMap());
+        } else {
+            writeItemMap(stack, data.getItemMap());
+        }
+    }
+
+    /**
+     * Writes the given item map to the drive. The item types are stored once in a list, and the counts are stored in a long array in the same order, so that when only
+     * the counts change the types don't have to be serialized again.
+     */
+    static void writeItemMap(ItemStack stack, Object2LongMap<HashedItem> itemMap) {
+        ListNBT types = new ListNBT();
+        for (HashedItem type : itemMap.keySet()) {
+            types.add(type.getStack().save(new CompoundNBT()));
         }
+        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_TYPES, types);
+        writeItemCounts(stack, itemMap);
+        //Remove the legacy data if it is present as we have now migrated to the new format
+        ItemDataUtils.removeData(stack, NBTConstants.QIO_ITEM_MAP);
     }
 
-    default void writeItemMap(ItemStack stack, QIODriveData map) {
-        ListNBT list = new ListNBT();
-        for (Entry<HashedItem> entry : map.getItemMap().object2LongEntrySet()) {
-            CompoundNBT tag = new CompoundNBT();
-            tag.put(NBTConstants.ITEM, entry.getKey().getStack().save(new CompoundNBT()));
-            tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
+    static void writeItemCounts(ItemStack stack, Object2LongMap<HashedItem> itemMap) {
+        long[] counts = new long[itemMap.size()];
+        int index = 0;
+        for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
+            counts[index++] = entry.getLongValue();
         }
-        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_MAP, list);
+        ItemDataUtils.setLongArray(stack, NBTConstants.QIO_ITEM_COUNTS, counts);
     }
 
     long getCountCapacity(ItemStack stack);
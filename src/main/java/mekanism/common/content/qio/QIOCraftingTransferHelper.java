@@ -2,13 +2,14 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.bytes.Byte2IntArrayMap;
 import it.unimi.dsi.fastutil.bytes.Byte2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -17,7 +18,7 @@ import mekanism.api.inventory.IInventorySlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.slot.MainInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.inventory.container.Slot;
 import net.minecraft.item.ItemStack;
@@ -25,7 +26,7 @@ import net.minecraft.item.ItemStack;
 public class QIOCraftingTransferHelper {
 
     /**
-     * A map of {@link HashedItem}s to counts for stored items in the frequency, the selected crafting grid, and the player's inventory. Any UUID distinct items get
+     * A map of {@link HashedItem}s to counts for stored items in the frequency, the selected crafting grid, and the player's inventory. Any type id distinct items get
      * merged into one as the client for checking amounts for JEI filling doesn't have access to the extra data anyways so makes do without it.
      *
      * @implNote We use raw hashed items as none of this stuff should or will be modified while doing these checks so we may as well remove some unneeded copies.
@@ -33,16 +34,16 @@ public class QIOCraftingTransferHelper {
     private final Object2LongMap<HashedItem> availableItems;
     private final Map<HashedItem, HashedItemSource> reverseLookup;
 
-    public QIOCraftingTransferHelper(Object2LongMap<UUIDAwareHashedItem> cachedInventory, List<HotBarSlot> hotBarSlots, List<MainInventorySlot> mainInventorySlots,
+    public QIOCraftingTransferHelper(Object2LongMap<TypeIdAwareHashedItem> cachedInventory, List<HotBarSlot> hotBarSlots, List<MainInventorySlot> mainInventorySlots,
           QIOCraftingWindow craftingWindow, PlayerEntity player) {
         availableItems = new Object2LongOpenHashMap<>();
         reverseLookup = new HashMap<>();
-        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : cachedInventory.object2LongEntrySet()) {
-            UUIDAwareHashedItem source = entry.getKey();
+        for (Object2LongMap.Entry<TypeIdAwareHashedItem> entry : cachedInventory.object2LongEntrySet()) {
+            TypeIdAwareHashedItem source = entry.getKey();
             long stored = entry.getLongValue();
             HashedItem hashedItem = source.asRawHashedItem();
             availableItems.mergeLong(hashedItem, stored, Long::sum);
-            reverseLookup.computeIfAbsent(hashedItem, item -> new HashedItemSource()).addQIOSlot(source.getUUID(), stored);
+            reverseLookup.computeIfAbsent(hashedItem, item -> new HashedItemSource()).addQIOSlot(source.getTypeId(), stored);
         }
         byte inventorySlotIndex = 0;
         for (; inventorySlotIndex < 9; inventorySlotIndex++) {
@@ -86,13 +87,13 @@ public class QIOCraftingTransferHelper {
     public static class HashedItemSource {
 
         @Nullable
-        private Object2LongMap<UUID> qioSources;
+        private Int2LongMap qioSources;
         @Nullable
         private Byte2IntMap slots;
 
-        private void addQIOSlot(UUID source, long stored) {
+        private void addQIOSlot(int source, long stored) {
             if (qioSources == null) {
-                qioSources = new Object2LongOpenHashMap<>();
+                qioSources = new Int2LongOpenHashMap();
             }
             qioSources.put(source, stored);
         }
@@ -131,13 +132,13 @@ public class QIOCraftingTransferHelper {
             }
             //If we didn't find an item to use for it, we look at the qio slots
             if (qioSources != null) {
-                ObjectIterator<Object2LongMap.Entry<UUID>> iter = qioSources.object2LongEntrySet().iterator();
+                ObjectIterator<Int2LongMap.Entry> iter = qioSources.int2LongEntrySet().iterator();
                 if (iter.hasNext()) {
-                    Object2LongMap.Entry<UUID> entry = iter.next();
+                    Int2LongMap.Entry entry = iter.next();
                     long stored = entry.getLongValue();
                     //Get the key before we potentially remove it as after removing it fast util
                     // makes it so that the entry is no longer valid
-                    UUID key = entry.getKey();
+                    int key = entry.getIntKey();
                     if (stored == 1) {
                         iter.remove();
                         if (qioSources.isEmpty()) {
@@ -156,17 +157,16 @@ public class QIOCraftingTransferHelper {
 
     public static class SingularHashedItemSource {
 
-        @Nullable
-        private final UUID qioSource;
+        private final int qioSource;
         private final byte slot;
 
-        public SingularHashedItemSource(@Nonnull UUID qioSource) {
+        public SingularHashedItemSource(int qioSource) {
             this.qioSource = qioSource;
             this.slot = -1;
         }
 
         public SingularHashedItemSource(byte slot) {
-            this.qioSource = null;
+            this.qioSource = -1;
             this.slot = slot;
         }
 
@@ -174,8 +174,10 @@ public class QIOCraftingTransferHelper {
             return slot;
         }
 
-        @Nullable
-        public UUID getQioSource() {
+        /**
+         * @return The type id of the stored item to take from the QIO, only valid if {@link #getSlot()} is {@code -1}.
+         */
+        public int getQioSource() {
             return qioSource;
         }
     }
@@ -1,7 +1,7 @@
 package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.lib.inventory.HashedItem;
@@ -12,8 +12,15 @@ public class QIODriveData {
     private final QIODriveKey key;
     private final long countCapacity;
     private final int typeCapacity;
-    private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    //Note: We use a linked map so that the order of the types stays the same as the order they are stored on the drive in
+    private final Object2LongMap<HashedItem> itemMap = new Object2LongLinkedOpenHashMap<>();
     private long itemCount;
+    /** If we have changes that haven't been saved to the drive. */
+    private boolean dirty;
+    /** If the types stored have changed since the drive was last saved, meaning the stored types need to be written again rather than just the counts. */
+    private boolean typesChanged;
+    /** Index of this drive in the frequency it is part of, used to track which drives contain each item type. */
+    int index = -1;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
@@ -22,8 +29,8 @@ public class QIODriveData {
         // load capacity values
         countCapacity = item.getCountCapacity(stack);
         typeCapacity = item.getTypeCapacity(stack);
-        // load item map from drive stack
-        item.loadItemMap(stack, this);
+        // load item map from drive stack, and if it is in an outdated format mark it as dirty so that it gets migrated
+        dirty = typesChanged = item.loadItemMap(stack, itemMap);
         // update cached item count value
         itemCount = itemMap.values().stream().mapToLong(Long::longValue).sum();
 
@@ -39,6 +46,10 @@ public class QIODriveData {
         long toAdd = Math.min(amount, countCapacity - itemCount);
         itemMap.put(type, stored + toAdd);
         itemCount += toAdd;
+        dirty = true;
+        if (stored == 0) {
+            typesChanged = true;
+        }
         key.updateMetadata(this);
         key.dataUpdate();
         return amount - toAdd;
@@ -49,10 +60,12 @@ public class QIODriveData {
         ItemStack ret = type.createStack(Math.min(amount, (int) stored));
         if (stored - ret.getCount() > 0) {
             itemMap.put(type, stored - ret.getCount());
-        } else {
+        } else if (stored > 0) {
             itemMap.removeLong(type);
+            typesChanged = true;
         }
         itemCount -= ret.getCount();
+        dirty |= !ret.isEmpty();
         key.updateMetadata(this);
         key.dataUpdate();
         return ret;
@@ -66,6 +79,14 @@ public class QIODriveData {
         return itemMap;
     }
 
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public boolean hasTypeChanges() {
+        return typesChanged;
+    }
+
     public QIODriveKey getKey() {
         return key;
     }
@@ -98,6 +119,8 @@ public class QIODriveData {
 
         public void save(QIODriveData data) {
             holder.save(driveSlot, data);
+            data.dirty = false;
+            data.typesChanged = false;
         }
 
         public void dataUpdate() {
@@ -0,0 +1,65 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collection;
+import java.util.Set;
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.content.qio.filter.QIOFilter;
+import mekanism.common.lib.collection.HashList;
+import mekanism.common.lib.inventory.Finder;
+
+/**
+ * The item types stored in a {@link QIOFrequency} that match a list of filters. The filters are compiled into finders once, and the frequency keeps the matching types
+ * up to date as types get added and removed so that exporters don't have to look up all the matching types every time they try to export.
+ */
+public class QIOFilterIndex {
+
+    private final HashList<QIOFilter<?>> filters;
+    private final int filtersModCount;
+    private final Finder[] finders;
+    private final Set<QIOItemTypeData> matches = new ObjectOpenHashSet<>();
+
+    QIOFilterIndex(HashList<QIOFilter<?>> filters, Collection<QIOItemTypeData> types) {
+        this.filters = filters;
+        this.filtersModCount = filters.getModCount();
+        this.finders = new Finder[filters.size()];
+        for (int i = 0; i < finders.length; i++) {
+            finders[i] = filters.get(i).getFinder();
+        }
+        rebuild(types);
+    }
+
+    /**
+     * @return {@code true} if this index was compiled from the given filters and they have not changed since.
+     */
+    boolean isFor(HashList<QIOFilter<?>> filters) {
+        return this.filters == filters && filtersModCount == filters.getModCount();
+    }
+
+    void rebuild(Collection<QIOItemTypeData> types) {
+        matches.clear();
+        for (QIOItemTypeData type : types) {
+            onTypeAdded(type);
+        }
+    }
+
+    void onTypeAdded(QIOItemTypeData type) {
+        for (Finder finder : finders) {
+            if (finder.modifies(type.getItemType().getStack())) {
+                matches.add(type);
+                break;
+            }
+        }
+    }
+
+    void onTypeRemoved(QIOItemTypeData type) {
+        matches.remove(type);
+    }
+
+    /**
+     * @return The stored types matching any of the filters, do not modify.
+     */
+    public Set<QIOItemTypeData> getMatches() {
+        return matches;
+    }
+}
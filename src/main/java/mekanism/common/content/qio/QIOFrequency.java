@@ -1,41 +1,39 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
-import mekanism.common.base.TagCache;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
+import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
-import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.entity.player.ServerPlayerEntity;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.PacketBuffer;
@@ -43,38 +41,33 @@ import net.minecraft.tileentity.TileEntity;
 
 public class QIOFrequency extends Frequency {
 
-    private static final Random rand = new Random();
+    /**
+     * Maximum number of item types to include in a single packet when initially syncing the stored items to a client.
+     */
+    private static final int MAX_TYPES_PER_BATCH_PACKET = 512;
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
+    // drives indexed by their drive index so that the drives containing an item type can be tracked as a bitset, removed drives leave a null hole to be reused
+    private final List<QIODriveData> drivesByIndex = new ArrayList<>();
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
-    // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
-    // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
-    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new HashMap<>();
-    // keep track of a UUID for each hashed item
-    private final BiMap<HashedItem, UUID> itemTypeLookup = HashBiMap.create();
-    // allows for lazily removing the UUIDs assigned to items in the itemTypeLookup BiMap without having any issues
-    // come up related to updatedItems being a set and UUIDAwareHashedItems server side intentionally not comparing
-    // the UUIDs, so then if multiple add/remove calls happened at once the items in need of updating potentially
-    // would sync using a different UUID to the client, causing the client to not know the old stack needed to be removed
-    private final Set<UUID> uuidsToInvalidate = new HashSet<>();
-    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
-    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardTags = new HashSet<>();
-    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
-    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardModIDs = new HashSet<>();
-
-    private final Set<UUIDAwareHashedItem> updatedItems = new HashSet<>();
+    // keep track of an int type id for each hashed item, these are what get sync'd to and sent back from clients to refer to a type
+    private final Object2IntMap<HashedItem> itemTypeIds = new Object2IntOpenHashMap<>();
+    private final Int2ObjectMap<HashedItem> itemTypesById = new Int2ObjectOpenHashMap<>();
+    // allows for lazily removing the type ids assigned to items without having any issues come up if multiple add/remove
+    // calls happened at once, as otherwise the items in need of updating potentially would sync using a different id to
+    // the client, causing the client to not know the old stack needed to be removed
+    private final IntSet typeIdsToInvalidate = new IntOpenHashSet();
+    // ids are never handed out twice (short of overflowing), so that a client acting on a stale view can't end up referring to a different type
+    private int nextTypeId;
+
+    private final IntSet updatedItems = new IntOpenHashSet();
     private final Set<ServerPlayerEntity> playersViewingItems = new HashSet<>();
+    // compiled filters of the exporters on this frequency, keyed by the exporter
+    private final Map<TileEntity, QIOFilterIndex> filterIndices = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
-    /** If we have new item changes that haven't been saved. */
-    private boolean isDirty;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -88,10 +81,12 @@ public class QIOFrequency extends Frequency {
      */
     public QIOFrequency(String n, @Nullable UUID uuid) {
         super(FrequencyType.QIO, n, uuid);
+        itemTypeIds.defaultReturnValue(-1);
     }
 
     public QIOFrequency() {
         super(FrequencyType.QIO);
+        itemTypeIds.defaultReturnValue(-1);
     }
 
     /**
@@ -104,13 +99,15 @@ public class QIOFrequency extends Frequency {
     }
 
     @Nullable
-    public HashedItem getTypeByUUID(@Nullable UUID uuid) {
-        return uuid == null ? null : itemTypeLookup.inverse().get(uuid);
+    public HashedItem getTypeById(int typeId) {
+        return itemTypesById.get(typeId);
     }
 
-    @Nullable
-    public UUID getUUIDForType(HashedItem item) {
-        return itemTypeLookup.get(item);
+    /**
+     * @return The id of the given type or {@code -1} if the type has no id assigned to it.
+     */
+    public int getTypeId(HashedItem item) {
+        return itemTypeIds.getInt(item);
     }
 
     public ItemStack addItem(ItemStack stack) {
@@ -126,36 +123,32 @@ public class QIOFrequency extends Frequency {
     }
 
     private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
-        ItemStack stack = type.getStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
-            }
-        }
-        modIDLookupMap.computeIfAbsent(MekanismUtils.getModId(stack), modID -> {
-            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
-            // as our new modid may be valid for some of our wildcards
-            modIDWildcardCache.clear();
-            failedWildcardModIDs.clear();
-            return new HashSet<>();
-        }).add(type);
-        //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
-        UUID oldUUID = getUUIDForType(type);
-        if (oldUUID != null) {
-            //If there was a UUID stored and prepped to be invalidated, remove it from the UUIDS we are trying to invalidate
+        int oldId = getTypeId(type);
+        if (oldId != -1) {
+            //If there was an id stored and prepped to be invalidated, remove it from the ids we are trying to invalidate
             // so that it is able to continue being used/sync'd to the client
-            uuidsToInvalidate.remove(oldUUID);
+            typeIdsToInvalidate.remove(oldId);
         } else {
-            // otherwise, create a new uuid for use with this item type
-            itemTypeLookup.put(type, UUID.randomUUID());
+            // otherwise, assign a new id for use with this item type
+            int id = nextTypeId();
+            itemTypeIds.put(type, id);
+            itemTypesById.put(id, type);
+        }
+        QIOItemTypeData data = new QIOItemTypeData(type);
+        for (QIOFilterIndex index : filterIndices.values()) {
+            index.onTypeAdded(data);
         }
-        return new QIOItemTypeData(type);
+        return data;
+    }
+
+    private int nextTypeId() {
+        int id;
+        do {
+            id = nextTypeId;
+            //Wrap back around to zero rather than going negative as negative ids are used to represent no type
+            nextTypeId = nextTypeId == Integer.MAX_VALUE ? 0 : nextTypeId + 1;
+        } while (itemTypesById.containsKey(id));
+        return id;
     }
 
     public ItemStack removeItem(int amount) {
@@ -192,132 +185,29 @@ public class QIOFrequency extends Frequency {
     }
 
     private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //If the item has a UUID that corresponds to it, add that UUID to our list of uuids to invalidate
-        UUID toInvalidate = getUUIDForType(type);
-        if (toInvalidate != null) {
-            uuidsToInvalidate.add(toInvalidate);
-        }
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
-            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
-            // matching a tag that is no longer stored
-            tagWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
-        }
-        ItemStack stack = type.getStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
-            modIDWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
-        }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
-    }
-
-    public Object2LongMap<HashedItem> getStacksByItem(Item item) {
-        return getStacksWithCounts(fuzzyItemLookupMap.get(item));
-    }
-
-    public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
-    }
-
-    public Object2LongMap<HashedItem> getStacksByModID(String modID) {
-        return getStacksWithCounts(modIDLookupMap.get(modID));
-    }
-
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
-            return Object2LongMaps.emptyMap();
-        }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStored(item));
-        }
-        return ret;
-    }
-
-    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeLongIfAbsent(item, this::getStored);
-                }
+        QIOItemTypeData data = itemDataMap.remove(type);
+        if (data != null) {
+            for (QIOFilterIndex index : filterIndices.values()) {
+                index.onTypeRemoved(data);
             }
-            return ret;
         }
-        return Object2LongMaps.emptyMap();
-    }
-
-    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStored(item));
-                }
-            }
-            return ret;
+        //If the item has an id that corresponds to it, add that id to our list of ids to invalidate
+        int toInvalidate = getTypeId(type);
+        if (toInvalidate != -1) {
+            typeIdsToInvalidate.add(toInvalidate);
         }
-        return Object2LongMaps.emptyMap();
-    }
-
-    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
-        if (failedWildcards.contains(wildcard)) {
-            //If we already know this wildcard has no matching things, fail fast
-            return false;
-        }
-        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
-        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
-            // If we don't actually have any matches, mark that the wildcard failed, and return false
-            failedWildcards.add(wildcard);
-            return false;
-        }
-        return true;
-    }
-
-    /**
-     * @return {@code true} if any wildcards were added.
-     */
-    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
-        boolean added = false;
-        for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
-                added |= wildcardCache.put(wildcard, entry);
-            }
-        }
-        return added;
     }
 
     public void openItemViewer(ServerPlayerEntity player) {
         playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
+        //Split the stored items across multiple packets so that frequencies with lots of types don't end up sending one giant packet
+        Object2LongMap<TypeIdAwareHashedItem> map = new Object2LongOpenHashMap<>(Math.min(itemDataMap.size(), MAX_TYPES_PER_BATCH_PACKET));
         for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, getUUIDForType(data.itemType)), data.count);
+            if (map.size() == MAX_TYPES_PER_BATCH_PACKET) {
+                Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batchPart(map), player);
+                map = new Object2LongOpenHashMap<>(MAX_TYPES_PER_BATCH_PACKET);
+            }
+            map.put(new TypeIdAwareHashedItem(data.itemType, getTypeId(data.itemType)), data.count);
         }
         Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
     }
@@ -363,45 +253,64 @@ public class QIOFrequency extends Frequency {
     @Override
     public void tick() {
         super.tick();
-        if (!uuidsToInvalidate.isEmpty()) {
-            //If we have uuids we need to invalidate the Item UUID pairing of them
-            for (UUID uuidToInvalidate : uuidsToInvalidate) {
-                itemTypeLookup.inverse().remove(uuidToInvalidate);
-            }
-            uuidsToInvalidate.clear();
-        }
         if (!updatedItems.isEmpty() || needsUpdate) {
-            Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-            updatedItems.forEach(type -> {
-                QIOItemTypeData data = itemDataMap.get(type);
-                map.put(type, data == null ? 0 : data.count);
-            });
+            Object2LongMap<TypeIdAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
+            for (IntIterator iter = updatedItems.iterator(); iter.hasNext(); ) {
+                //Note: We build the update before invalidating any ids so that the ids of removed types can still be looked up
+                int typeId = iter.nextInt();
+                HashedItem type = itemTypesById.get(typeId);
+                if (type != null) {
+                    QIOItemTypeData data = itemDataMap.get(type);
+                    map.put(new TypeIdAwareHashedItem(type, typeId), data == null ? 0 : data.count);
+                }
+            }
             // flush players that somehow didn't send a container close packet
             playersViewingItems.removeIf(player -> !(player.containerMenu instanceof QIOItemViewerContainer));
-            playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), player));
+            //Note: We send the update to all the viewing players at once so that it only gets encoded a single time
+            Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), playersViewingItems);
             updatedItems.clear();
             needsUpdate = false;
         }
-        // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
-        // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
-        // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
-        // is forcibly shut down.
-        if (isDirty && rand.nextInt(100) == 0) {
-            saveAll();
-            isDirty = false;
+        if (!typeIdsToInvalidate.isEmpty()) {
+            //If we have ids we need to invalidate the item id pairing of them
+            for (IntIterator iter = typeIdsToInvalidate.iterator(); iter.hasNext(); ) {
+                HashedItem type = itemTypesById.remove(iter.nextInt());
+                if (type != null) {
+                    itemTypeIds.removeInt(type);
+                }
+            }
+            typeIdsToInvalidate.clear();
         }
+        //Note: We don't need to periodically save the drives here, as the data written to the drive stacks only gets persisted
+        // when the chunk containing the drive array is saved, and drive arrays save all dirty drives of their frequency right
+        // before they are saved. Drives also get saved when they are removed from the frequency.
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
-            tagLookupMap.clear();
-            tagWildcardCache.clear();
-            itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getStack()), item.itemType));
+            //Tag filters may match different types now
+            filterIndices.values().forEach(index -> index.rebuild(itemDataMap.values()));
+        }
+    }
+
+    /**
+     * Gets the stored item types matching any of the given filters. The matches are cached per owner, and only recompiled when the owner passes a different filter list
+     * or the list has been modified, otherwise they are kept up to date as types get added to and removed from this frequency.
+     *
+     * @param owner   Tile the filters belong to.
+     * @param filters Filters to match against, the list should not be copied between calls as the identity of the list is used to detect changes.
+     */
+    public Set<QIOItemTypeData> getFilterMatches(TileEntity owner, HashList<QIOFilter<?>> filters) {
+        QIOFilterIndex index = filterIndices.get(owner);
+        if (index == null || !index.isFor(filters)) {
+            index = new QIOFilterIndex(filters, itemDataMap.values());
+            filterIndices.put(owner, index);
         }
+        return index.getMatches();
     }
 
     @Override
     public void onDeactivate(TileEntity tile) {
         super.onDeactivate(tile);
+        filterIndices.remove(tile);
 
         if (tile instanceof IQIODriveHolder) {
             IQIODriveHolder holder = (IQIODriveHolder) tile;
@@ -431,7 +340,8 @@ public class QIOFrequency extends Frequency {
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        filterIndices.clear();
+        Mekanism.packetHandler.sendTo(PacketQIOItemViewerGuiSync.kill(), playersViewingItems);
     }
 
     @Override
@@ -488,9 +398,16 @@ public class QIOFrequency extends Frequency {
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            data.index = drivesByIndex.indexOf(null);
+            if (data.index == -1) {
+                data.index = drivesByIndex.size();
+                drivesByIndex.add(data);
+            } else {
+                drivesByIndex.set(data.index, data);
+            }
             data.getItemMap().forEach((storedKey, value) -> {
                 itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, value);
-                updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                updatedItems.add(getTypeId(storedKey));
             });
             setNeedsUpdate();
         }
@@ -505,10 +422,10 @@ public class QIOFrequency extends Frequency {
             data.getItemMap().forEach((storedKey, value) -> {
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
-                    itemData.containingDrives.remove(key);
+                    itemData.containingDrives.clear(data.index);
                     itemData.count -= value;
                     totalCount -= value;
-                    updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                    updatedItems.add(getTypeId(storedKey));
                     // remove this entry from the item data map if it's now empty
                     if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
                         removeItemData(storedKey);
@@ -521,6 +438,7 @@ public class QIOFrequency extends Frequency {
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        drivesByIndex.set(data.index, null);
         // save the item list onto the physical drive
         key.updateMetadata(data);
         key.save(data);
@@ -528,8 +446,11 @@ public class QIOFrequency extends Frequency {
 
     public void saveAll() {
         driveMap.forEach((key, value) -> {
-            key.updateMetadata(value);
-            key.save(value);
+            //Only write the drives that actually changed since they were last saved
+            if (value.isDirty()) {
+                key.updateMetadata(value);
+                key.save(value);
+            }
         });
     }
 
@@ -542,9 +463,8 @@ public class QIOFrequency extends Frequency {
 
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         needsUpdate = true;
-        isDirty = true;
         if (changedItem != null) {
-            updatedItems.add(new UUIDAwareHashedItem(changedItem, getUUIDForType(changedItem)));
+            updatedItems.add(getTypeId(changedItem));
         }
     }
 
@@ -556,24 +476,29 @@ public class QIOFrequency extends Frequency {
 
         private final HashedItem itemType;
         private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
+        // indices of the drives containing this type
+        private final BitSet containingDrives = new BitSet();
 
         public QIOItemTypeData(HashedItem itemType) {
             this.itemType = itemType;
         }
 
+        public HashedItem getItemType() {
+            return itemType;
+        }
+
         private void addFromDrive(QIODriveData data, long toAdd) {
             count += toAdd;
             totalCount += toAdd;
-            containingDrives.add(data.getKey());
+            containingDrives.set(data.index);
             setNeedsUpdate();
         }
 
         private long add(long amount) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key));
+            for (int i = containingDrives.nextSetBit(0); i >= 0; i = containingDrives.nextSetBit(i + 1)) {
+                toAdd = addItemsToDrive(toAdd, drivesByIndex.get(i));
                 if (toAdd == 0) {
                     break;
                 }
@@ -581,7 +506,7 @@ public class QIOFrequency extends Frequency {
             // next, we add the items to any drive that will take it
             if (toAdd > 0) {
                 for (QIODriveData data : driveMap.values()) {
-                    if (containingDrives.contains(data.getKey())) {
+                    if (containingDrives.get(data.index)) {
                         continue;
                     }
                     toAdd = addItemsToDrive(toAdd, data);
@@ -600,15 +525,15 @@ public class QIOFrequency extends Frequency {
         private long addItemsToDrive(long toAdd, QIODriveData data) {
             long rejects = data.add(itemType, toAdd);
             if (rejects < toAdd) {
-                containingDrives.add(data.getKey());
+                containingDrives.set(data.index);
             }
             return rejects;
         }
 
         private ItemStack remove(int amount) {
             ItemStack ret = ItemStack.EMPTY;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
+            for (int i = containingDrives.nextSetBit(0); i >= 0; i = containingDrives.nextSetBit(i + 1)) {
+                QIODriveData data = drivesByIndex.get(i);
                 ItemStack stack = data.remove(itemType, amount - ret.getCount());
                 if (ret.isEmpty()) {
                     ret = stack;
@@ -617,7 +542,7 @@ public class QIOFrequency extends Frequency {
                 }
                 // remove this drive from containingDrives if it doesn't have this item anymore
                 if (data.getStored(itemType) == 0) {
-                    iter.remove();
+                    containingDrives.clear(i);
                 }
                 // break early if we found enough items
                 if (ret.getCount() == amount) {
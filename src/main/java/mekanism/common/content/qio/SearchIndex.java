@@ -0,0 +1,191 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.ISearchStrings;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
+
+/**
+ * Inverted index from the trigrams of the search strings of entries to the entries containing them. This allows narrowing down which entries may match a search query
+ * without having to evaluate it against every entry, and caches the search strings of each entry so that they don't have to be recalculated for every search. Only
+ * use on client-side.
+ */
+public class SearchIndex<T> {
+
+    /**
+     * Length of the substrings that get indexed, keys shorter than this can't be looked up in the index and have to be checked against every entry.
+     */
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<T, Map<QueryType, List<String>>> entries = new Object2ObjectOpenHashMap<>();
+    private final Map<QueryType, Long2ObjectMap<Set<T>>> grams = new EnumMap<>(QueryType.class);
+
+    public SearchIndex() {
+        for (QueryType type : QueryType.values()) {
+            grams.put(type, new Long2ObjectOpenHashMap<>());
+        }
+    }
+
+    /**
+     * Adds an entry to the index, if the entry is already indexed this does nothing.
+     *
+     * @param searchStrings Lookup for the lowercase strings of the entry for each query type, this is only queried once per query type.
+     */
+    public void add(T entry, ISearchStrings searchStrings) {
+        if (entries.containsKey(entry)) {
+            return;
+        }
+        Map<QueryType, List<String>> strings = new EnumMap<>(QueryType.class);
+        for (QueryType type : QueryType.values()) {
+            List<String> values = searchStrings.get(type);
+            strings.put(type, values);
+            Long2ObjectMap<Set<T>> typeGrams = grams.get(type);
+            for (String value : values) {
+                for (int i = 0, end = value.length() - GRAM_LENGTH; i <= end; i++) {
+                    typeGrams.computeIfAbsent(gram(value, i), gram -> new ObjectOpenHashSet<>()).add(entry);
+                }
+            }
+        }
+        entries.put(entry, strings);
+    }
+
+    public void remove(T entry) {
+        Map<QueryType, List<String>> strings = entries.remove(entry);
+        if (strings != null) {
+            for (Map.Entry<QueryType, List<String>> typeStrings : strings.entrySet()) {
+                Long2ObjectMap<Set<T>> typeGrams = grams.get(typeStrings.getKey());
+                for (String value : typeStrings.getValue()) {
+                    for (int i = 0, end = value.length() - GRAM_LENGTH; i <= end; i++) {
+                        long gram = gram(value, i);
+                        Set<T> containing = typeGrams.get(gram);
+                        if (containing != null && containing.remove(entry) && containing.isEmpty()) {
+                            typeGrams.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        for (Long2ObjectMap<Set<T>> typeGrams : grams.values()) {
+            typeGrams.clear();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return All indexed entries that match the given query.
+     */
+    public Set<T> search(ISearchQuery query) {
+        if (query.isInvalid()) {
+            return Collections.emptySet();
+        }
+        Set<T> matches = new ObjectOpenHashSet<>();
+        if (query instanceof SearchQueryList && !((SearchQueryList) query).getQueries().isEmpty()) {
+            for (SearchQuery searchQuery : ((SearchQueryList) query).getQueries()) {
+                Set<T> candidates = getCandidates(searchQuery);
+                addMatches(searchQuery, candidates == null ? entries.keySet() : candidates, matches);
+            }
+        } else {
+            //Fallback to checking every entry for empty query lists (which match everything) or unknown query implementations
+            addMatches(query, entries.keySet(), matches);
+        }
+        return matches;
+    }
+
+    private void addMatches(ISearchQuery query, Set<T> candidates, Set<T> matches) {
+        for (T candidate : candidates) {
+            if (!matches.contains(candidate)) {
+                Map<QueryType, List<String>> strings = entries.get(candidate);
+                if (query.matches(strings::get)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Entries that may match the given query, or {@code null} if the index can't narrow the query down and all entries need to be checked.
+     */
+    @Nullable
+    private Set<T> getCandidates(SearchQuery query) {
+        Set<T> candidates = null;
+        for (Map.Entry<QueryType, List<String>> entry : query.getQueryMap().entrySet()) {
+            Set<T> typeCandidates = getCandidates(entry.getKey(), entry.getValue());
+            if (typeCandidates != null) {
+                //All the query types have to match, so we can intersect the candidates of each type
+                candidates = candidates == null ? typeCandidates : intersect(candidates, typeCandidates);
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    @Nullable
+    private Set<T> getCandidates(QueryType type, List<String> keys) {
+        //Only one of the keys has to match, so the candidates are the union of the candidates of each key
+        Set<T> candidates = new ObjectOpenHashSet<>();
+        Long2ObjectMap<Set<T>> typeGrams = grams.get(type);
+        for (String key : keys) {
+            String lowercaseKey = key.toLowerCase(Locale.ROOT);
+            if (lowercaseKey.length() < GRAM_LENGTH) {
+                return null;
+            }
+            Set<T> keyCandidates = null;
+            for (int i = 0, end = lowercaseKey.length() - GRAM_LENGTH; i <= end; i++) {
+                Set<T> containing = typeGrams.get(gram(lowercaseKey, i));
+                if (containing == null) {
+                    //No entries contain this part of the key so nothing can match the key
+                    keyCandidates = null;
+                    break;
+                }
+                keyCandidates = keyCandidates == null ? containing : intersect(keyCandidates, containing);
+                if (keyCandidates.isEmpty()) {
+                    break;
+                }
+            }
+            if (keyCandidates != null) {
+                candidates.addAll(keyCandidates);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @return A new set containing the elements in both sets, neither of the given sets are modified.
+     */
+    private static <T> Set<T> intersect(Set<T> a, Set<T> b) {
+        Set<T> smaller = a.size() <= b.size() ? a : b;
+        Set<T> larger = smaller == a ? b : a;
+        Set<T> intersection = new ObjectOpenHashSet<>();
+        for (T element : smaller) {
+            if (larger.contains(element)) {
+                intersection.add(element);
+            }
+        }
+        return intersection;
+    }
+
+    private static long gram(String value, int start) {
+        return (long) value.charAt(start) << 32 | (long) value.charAt(start + 1) << 16 | value.charAt(start + 2);
+    }
+}
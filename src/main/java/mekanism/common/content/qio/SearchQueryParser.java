@@ -11,7 +11,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import mekanism.common.base.TagCache;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.client.util.ITooltipFlag;
@@ -25,7 +26,7 @@ import org.apache.commons.lang3.tuple.Pair;
  */
 public class SearchQueryParser {
 
-    private static final ISearchQuery INVALID = stack -> false;
+    private static final ISearchQuery INVALID = searchStrings -> false;
     private static final Set<Character> TERMINATORS = Sets.newHashSet('|', '(', '\"', '\'');
 
     public static ISearchQuery parse(String query) {
@@ -164,11 +165,10 @@ public class SearchQueryParser {
 
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        TOOLTIP('$', (key, stack) -> stack.getTooltipLines(null, ITooltipFlag.TooltipFlags.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT))
-              .anyMatch(tooltip -> tooltip.contains(key.toLowerCase(Locale.ROOT)))),
-        TAG('#', (key, stack) -> TagCache.getItemTags(stack).stream().anyMatch(itemTag -> itemTag.toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))));
+        NAME('~', stack -> Collections.singletonList(stack.getHoverName().getString())),
+        MOD_ID('@', stack -> Collections.singletonList(MekanismUtils.getModId(stack))),
+        TOOLTIP('$', stack -> stack.getTooltipLines(null, ITooltipFlag.TooltipFlags.NORMAL).stream().map(text -> text.getString()).collect(Collectors.toList())),
+        TAG('#', stack -> TagCache.getItemTags(stack));
 
         private static final Char2ObjectMap<QueryType> charLookupMap = new Char2ObjectOpenHashMap<>();
 
@@ -187,15 +187,41 @@ public class SearchQueryParser {
         }
 
         private final char prefix;
-        private final BiPredicate<String, ItemStack> checker;
+        private final Function<ItemStack, List<String>> searchStringsGetter;
 
-        QueryType(char prefix, BiPredicate<String, ItemStack> checker) {
+        QueryType(char prefix, Function<ItemStack, List<String>> searchStringsGetter) {
             this.prefix = prefix;
-            this.checker = checker;
+            this.searchStringsGetter = searchStringsGetter;
+        }
+
+        /**
+         * Gets the lowercase strings of the given stack that this query type searches against.
+         */
+        public List<String> getSearchStrings(ItemStack stack) {
+            List<String> strings = searchStringsGetter.apply(stack);
+            List<String> lowercase = new ArrayList<>(strings.size());
+            for (String string : strings) {
+                lowercase.add(string.toLowerCase(Locale.ROOT));
+            }
+            return lowercase;
         }
 
         public boolean matches(String key, ItemStack stack) {
-            return checker.test(key, stack);
+            return matches(key, getSearchStrings(stack));
+        }
+
+        /**
+         * @param key           Key to search for.
+         * @param searchStrings Lowercase strings to search in, as provided by {@link #getSearchStrings(ItemStack)}.
+         */
+        public static boolean matches(String key, List<String> searchStrings) {
+            String lowercaseKey = key.toLowerCase(Locale.ROOT);
+            for (String searchString : searchStrings) {
+                if (searchString.contains(lowercaseKey)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
@@ -204,8 +230,11 @@ public class SearchQueryParser {
         private final Map<QueryType, List<String>> queryStrings = new LinkedHashMap<>();
 
         @Override
-        public boolean matches(ItemStack stack) {
-            return queryStrings.entrySet().stream().allMatch(entry -> entry.getValue().stream().anyMatch(key -> entry.getKey().matches(key, stack)));
+        public boolean matches(ISearchStrings searchStrings) {
+            return queryStrings.entrySet().stream().allMatch(entry -> {
+                List<String> strings = searchStrings.get(entry.getKey());
+                return entry.getValue().stream().anyMatch(key -> QueryType.matches(key, strings));
+            });
         }
 
         private boolean isEmpty() {
@@ -231,9 +260,9 @@ public class SearchQueryParser {
         }
 
         @Override
-        public boolean matches(ItemStack stack) {
+        public boolean matches(ISearchStrings searchStrings) {
             // allow empty query lists to match all stacks
-            return queries.isEmpty() || queries.stream().anyMatch(query -> query.matches(stack));
+            return queries.isEmpty() || queries.stream().anyMatch(query -> query.matches(searchStrings));
         }
 
         @Override
@@ -248,10 +277,23 @@ public class SearchQueryParser {
 
     public interface ISearchQuery {
 
-        boolean matches(ItemStack stack);
+        boolean matches(ISearchStrings searchStrings);
+
+        default boolean matches(ItemStack stack) {
+            return matches(type -> type.getSearchStrings(stack));
+        }
 
         default boolean isInvalid() {
             return this == INVALID;
         }
     }
+
+    /**
+     * Provides the lowercase strings an entry can be searched by for each query type.
+     */
+    @FunctionalInterface
+    public interface ISearchStrings {
+
+        List<String> get(QueryType type);
+    }
 }
@@ -1,57 +1,321 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import mekanism.api.text.EnumColor;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterPathfinder.PathTree;
+import mekanism.common.lib.collection.LRU;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 
 public class PathfinderCache {
 
+    /**
+     * Maximum number of positions across all cached paths before we start evicting the least recently used paths.
+     */
+    private static final int MAX_CACHED_POSITIONS = 65_536;
+    /**
+     * Maximum number of transporters across all cached shortest path trees before we start evicting the least recently used trees. Bounding by the size of the trees
+     * rather than their count keeps the memory use in check regardless of how large the networks are.
+     */
+    private static final int MAX_CACHED_TREE_NODES = 262_144;
+
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final LRU<PathData> recentlyUsed = new LRU<>();
+    private static final LRU<TreeData> recentlyUsedTrees = new LRU<>();
+    private static int cachedPositions;
+    private static int cachedTreeNodes;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
 
+    /**
+     * Called when the layout of the given networks changes, this bumps the generation of the network so that all paths cached before the change are treated as stale
+     * the next time they are looked up.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            onChanged(network.getUUID());
         }
     }
 
-    public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+    static void onChanged(UUID network) {
+        NetworkPaths paths = cachedPaths.get(network);
+        if (paths != null) {
+            paths.generation++;
+            //Path trees can't be partially validated, so just drop them all
+            for (Map.Entry<TreeData, PathTree> entry : paths.trees.entrySet()) {
+                recentlyUsedTrees.remove(entry.getKey());
+                cachedTreeNodes -= entry.getValue().size();
+            }
+            paths.trees.clear();
+            if (paths.isEmpty()) {
+                cachedPaths.remove(network);
+            }
+        }
     }
 
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
-        CachedPath ret = null;
+    /**
+     * Called when the given network is deregistered, this drops all the paths and trees cached for it so that they don't stay around until they get evicted.
+     */
+    public static void onDeregistered(InventoryNetwork network) {
+        NetworkPaths paths = cachedPaths.remove(network.getUUID());
+        if (paths != null) {
+            for (Long2ObjectMap<CachedPath[]> byEnd : paths.byStart.values()) {
+                for (CachedPath[] sides : byEnd.values()) {
+                    for (CachedPath path : sides) {
+                        if (path != null) {
+                            recentlyUsed.remove(path.key);
+                            cachedPositions -= path.path.size();
+                        }
+                    }
+                }
+            }
+            for (Map.Entry<TreeData, PathTree> entry : paths.trees.entrySet()) {
+                recentlyUsedTrees.remove(entry.getKey());
+                cachedTreeNodes -= entry.getValue().size();
+            }
+        }
+    }
+
+    /**
+     * Called when an acceptor of the given network changes, this only removes the paths that end at the changed acceptor rather than invalidating the entire network.
+     */
+    public static void onAcceptorChanged(InventoryNetwork network, BlockPos acceptorPos) {
+        NetworkPaths paths = cachedPaths.get(network.getUUID());
+        if (paths != null) {
+            long end = acceptorPos.asLong();
+            for (Iterator<Long2ObjectMap<CachedPath[]>> iterator = paths.byStart.values().iterator(); iterator.hasNext(); ) {
+                Long2ObjectMap<CachedPath[]> byEnd = iterator.next();
+                CachedPath[] sides = byEnd.remove(end);
+                if (sides != null) {
+                    for (CachedPath path : sides) {
+                        if (path != null) {
+                            recentlyUsed.remove(path.key);
+                            cachedPositions -= path.path.size();
+                        }
+                    }
+                    if (byEnd.isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+            if (paths.isEmpty()) {
+                cachedPaths.remove(network.getUUID());
+            }
+        }
+    }
+
+    public static void addCachedPath(LogisticalTransporterBase start, BlockPos end, Direction endSide, List<BlockPos> positions, double cost) {
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-            for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
-                if (ret == null || (test != null && test.getCost() < ret.getCost())) {
-                    ret = test;
+        NetworkPaths paths = cachedPaths.computeIfAbsent(uuid, u -> new NetworkPaths());
+        CachedPath[] sides = paths.byStart.computeIfAbsent(start.getTilePos().asLong(), s -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(end.asLong(), e -> new CachedPath[EnumUtils.DIRECTIONS.length]);
+        int index = endSide.ordinal();
+        CachedPath previous = sides[index];
+        if (previous != null) {
+            recentlyUsed.remove(previous.key);
+            cachedPositions -= previous.path.size();
+        }
+        PathData key = new PathData(uuid, start.getTilePos(), end, endSide);
+        sides[index] = new CachedPath(key, paths.generation, positions, cost);
+        recentlyUsed.add(key);
+        cachedPositions += positions.size();
+        while (cachedPositions > MAX_CACHED_POSITIONS && recentlyUsed.size() > 1) {
+            //Evict the least recently used paths until we are back under our limit, but never evict the path we just added
+            PathData eldest = recentlyUsed.descendingIterator().next();
+            recentlyUsed.remove(eldest);
+            removePath(eldest);
+            evictions++;
+        }
+    }
+
+    @Nullable
+    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
+        NetworkPaths paths = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (paths != null) {
+            Long2ObjectMap<CachedPath[]> byEnd = paths.byStart.get(start.getTilePos().asLong());
+            if (byEnd != null) {
+                CachedPath[] cached = byEnd.get(end.asLong());
+                if (cached != null) {
+                    CachedPath ret = null;
+                    for (Direction side : sides) {
+                        int index = side.ordinal();
+                        CachedPath test = cached[index];
+                        if (test != null) {
+                            if (test.generation != paths.generation) {
+                                //The network changed since this path was cached, so drop it
+                                cached[index] = null;
+                                recentlyUsed.remove(test.key);
+                                cachedPositions -= test.path.size();
+                            } else if (ret == null || test.getCost() < ret.getCost()) {
+                                ret = test;
+                            }
+                        }
+                    }
+                    if (ret != null) {
+                        recentlyUsed.moveUp(ret.key);
+                        hits++;
+                        return ret;
+                    }
+                    //Nothing usable was cached, so drop the containers if removing the stale paths emptied them
+                    removeIfEmpty(start.getTransmitterNetwork().getUUID(), paths, start.getTilePos().asLong(), byEnd, end.asLong(), cached);
+                }
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    private static void removePath(PathData key) {
+        NetworkPaths paths = cachedPaths.get(key.network);
+        if (paths != null) {
+            long start = key.startTransporter.asLong();
+            Long2ObjectMap<CachedPath[]> byEnd = paths.byStart.get(start);
+            if (byEnd != null) {
+                long end = key.end.asLong();
+                CachedPath[] sides = byEnd.get(end);
+                if (sides != null) {
+                    int index = key.endSide.ordinal();
+                    CachedPath path = sides[index];
+                    if (path != null) {
+                        cachedPositions -= path.path.size();
+                        sides[index] = null;
+                    }
+                    removeIfEmpty(key.network, paths, start, byEnd, end, sides);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the cached paths for the given start and end, and the containers holding them, if there are no paths left in them.
+     */
+    private static void removeIfEmpty(UUID network, NetworkPaths paths, long start, Long2ObjectMap<CachedPath[]> byEnd, long end, CachedPath[] sides) {
+        if (isEmpty(sides)) {
+            byEnd.remove(end);
+            if (byEnd.isEmpty()) {
+                paths.byStart.remove(start);
+                if (paths.isEmpty()) {
+                    cachedPaths.remove(network);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the shortest path tree from the given transporter for stacks of the given stack's colour, calculating it if it has not been cached yet.
+     */
+    public static PathTree getPathTree(LogisticalTransporterBase start, TransporterStack stack) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        return getPathTree(network.getUUID(), start.getTilePos(), stack.color, () -> PathTree.create(network, start.getTilePos(), stack));
+    }
+
+    static PathTree getPathTree(UUID uuid, BlockPos start, @Nullable EnumColor color, Supplier<PathTree> treeBuilder) {
+        TreeData key = new TreeData(uuid, start, color);
+        NetworkPaths paths = cachedPaths.computeIfAbsent(uuid, u -> new NetworkPaths());
+        PathTree tree = paths.trees.get(key);
+        if (tree == null) {
+            tree = treeBuilder.get();
+            paths.trees.put(key, tree);
+            recentlyUsedTrees.add(key);
+            cachedTreeNodes += tree.size();
+            while (cachedTreeNodes > MAX_CACHED_TREE_NODES && recentlyUsedTrees.size() > 1) {
+                //Evict the least recently used trees until we are back under our limit, but never evict the tree we just added
+                TreeData eldest = recentlyUsedTrees.descendingIterator().next();
+                recentlyUsedTrees.remove(eldest);
+                NetworkPaths eldestPaths = cachedPaths.get(eldest.network);
+                if (eldestPaths != null) {
+                    PathTree eldestTree = eldestPaths.trees.remove(eldest);
+                    if (eldestTree != null) {
+                        cachedTreeNodes -= eldestTree.size();
+                    }
+                    if (eldestPaths.isEmpty()) {
+                        cachedPaths.remove(eldest.network);
+                    }
                 }
             }
+        } else {
+            recentlyUsedTrees.moveUp(key);
         }
-        return ret;
+        return tree;
+    }
+
+    private static boolean isEmpty(CachedPath[] sides) {
+        for (CachedPath path : sides) {
+            if (path != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int getCachedPaths() {
+        return recentlyUsed.size();
+    }
+
+    public static int getCachedPositions() {
+        return cachedPositions;
+    }
+
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getMisses() {
+        return misses;
+    }
+
+    public static long getEvictions() {
+        return evictions;
     }
 
     public static void reset() {
         cachedPaths.clear();
+        recentlyUsed.clear();
+        recentlyUsedTrees.clear();
+        cachedPositions = 0;
+        cachedTreeNodes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    private static class NetworkPaths {
+
+        private final Long2ObjectMap<Long2ObjectMap<CachedPath[]>> byStart = new Long2ObjectOpenHashMap<>();
+        private final Map<TreeData, PathTree> trees = new Object2ObjectOpenHashMap<>();
+        private int generation;
+
+        private boolean isEmpty() {
+            return byStart.isEmpty() && trees.isEmpty();
+        }
     }
 
     public static class CachedPath {
 
+        private final PathData key;
+        private final int generation;
         private final List<BlockPos> path;
         private final double cost;
 
-        public CachedPath(List<BlockPos> path, double cost) {
+        private CachedPath(PathData key, int generation, List<BlockPos> path, double cost) {
+            this.key = key;
+            this.generation = generation;
             this.path = path;
             this.cost = cost;
         }
@@ -67,16 +331,19 @@ public class PathfinderCache {
 
     public static class PathData {
 
+        private final UUID network;
         private final BlockPos startTransporter;
         private final BlockPos end;
         private final Direction endSide;
         private final int hash;
 
-        public PathData(BlockPos s, BlockPos e, Direction es) {
+        public PathData(UUID network, BlockPos s, BlockPos e, Direction es) {
+            this.network = network;
             startTransporter = s;
             end = e;
             endSide = es;
             int code = 1;
+            code = 31 * code + network.hashCode();
             code = 31 * code + startTransporter.hashCode();
             code = 31 * code + end.hashCode();
             code = 31 * code + endSide.hashCode();
@@ -87,7 +354,41 @@ public class PathfinderCache {
         public boolean equals(Object obj) {
             if (obj instanceof PathData) {
                 PathData data = (PathData) obj;
-                return data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide.equals(endSide);
+                return data.network.equals(network) && data.startTransporter.equals(startTransporter) && data.end.equals(end) && data.endSide.equals(endSide);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class TreeData {
+
+        private final UUID network;
+        private final BlockPos start;
+        @Nullable
+        private final EnumColor color;
+        private final int hash;
+
+        private TreeData(UUID network, BlockPos start, @Nullable EnumColor color) {
+            this.network = network;
+            this.start = start;
+            this.color = color;
+            int code = 1;
+            code = 31 * code + network.hashCode();
+            code = 31 * code + start.hashCode();
+            code = 31 * code + (color == null ? 0 : color.hashCode());
+            hash = code;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof TreeData) {
+                TreeData data = (TreeData) obj;
+                return data.network.equals(network) && data.start.equals(start) && data.color == color;
             }
             return false;
         }
@@ -97,4 +398,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,207 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Arrays;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Keeps track of how many items the stacks that are in flight to a side of a destination are expected to put in each slot. This lets us predict the contents of the
+ * destination once everything has arrived from its actual contents in O(slots), instead of having to simulate every in-flight stack again.
+ *
+ * @param <STACK>    The stacks that are in flight.
+ * @param <CONTENTS> The predicted contents of the destination.
+ * @param <TYPE>     What is stored in a slot of the destination.
+ */
+abstract class ReservationLedger<STACK, CONTENTS, TYPE> {
+
+    private final Map<STACK, Reservation> reservations = new Object2ObjectOpenHashMap<>();
+    @Nullable
+    private int[] reserved;
+    private Object[] reservedTypes;
+    private int blockingStacks;
+    /**
+     * Contents of the destination including all reservations, lazily built from the actual contents once per tick.
+     */
+    @Nullable
+    private CONTENTS predicted;
+
+    /**
+     * @return The actual current contents of the destination.
+     */
+    protected abstract CONTENTS readContents();
+
+    protected abstract int getSlots(CONTENTS contents);
+
+    /**
+     * @return The amount in each slot, changes made to the returned array are changes to the contents.
+     */
+    protected abstract int[] getStackSizes(CONTENTS contents);
+
+    /**
+     * @return The max amount the given slot can hold.
+     */
+    protected abstract int getSlotLimit(CONTENTS contents, int slot);
+
+    protected abstract TYPE getType(CONTENTS contents, int slot);
+
+    protected abstract void setType(CONTENTS contents, int slot, TYPE type);
+
+    protected abstract boolean isStackable(TYPE a, TYPE b);
+
+    /**
+     * @return All the stacks that are currently in flight to the destination.
+     */
+    protected abstract Iterable<STACK> getInFlight();
+
+    /**
+     * @return {@code true} if the stack is heading to the destination and should reserve room in it.
+     */
+    protected abstract boolean canReserve(STACK stack);
+
+    /**
+     * Simulates inserting the stack into the given contents, updating them to what they would be after the insert.
+     *
+     * @return {@code true} if the stack didn't fit and no other stacks should be sent to the destination until things change.
+     */
+    protected abstract boolean simulateInsert(CONTENTS contents, STACK stack);
+
+    public CONTENTS getPredicted() {
+        if (predicted == null) {
+            if (reserved == null) {
+                rebuild();
+            } else {
+                predicted = readContents();
+                if (blockingStacks > 0 || !applyReservations(predicted)) {
+                    //If the contents changed in a way our reservations no longer fit, or some stacks didn't fit when they were sent
+                    // but may now that the contents changed, calculate the reservations again
+                    rebuild();
+                }
+            }
+        }
+        return predicted;
+    }
+
+    public boolean hasBlockingStacks() {
+        return blockingStacks > 0;
+    }
+
+    /**
+     * @return The amount the in-flight stacks have reserved in the given slot.
+     */
+    int getReserved(int slot) {
+        return reserved == null ? 0 : reserved[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean applyReservations(CONTENTS contents) {
+        int slots = getSlots(contents);
+        if (slots != reserved.length) {
+            return false;
+        }
+        int[] stackSizes = getStackSizes(contents);
+        for (int slot = 0; slot < slots; slot++) {
+            int amount = reserved[slot];
+            if (amount > 0) {
+                TYPE reservedType = (TYPE) reservedTypes[slot];
+                if (stackSizes[slot] == 0) {
+                    setType(contents, slot, reservedType);
+                } else if (!isStackable(getType(contents, slot), reservedType) || stackSizes[slot] + amount > getSlotLimit(contents, slot)) {
+                    //The slot got filled some other way (for example by a hopper or a player), so some of the reserved items may no longer fit
+                    return false;
+                }
+                stackSizes[slot] += amount;
+            }
+        }
+        return true;
+    }
+
+    private void rebuild() {
+        predicted = readContents();
+        int slots = getSlots(predicted);
+        reserved = new int[slots];
+        reservedTypes = new Object[slots];
+        reservations.clear();
+        blockingStacks = 0;
+        for (STACK stack : getInFlight()) {
+            reserve(stack);
+        }
+    }
+
+    public void reserve(@Nullable STACK stack) {
+        if (stack == null || !canReserve(stack)) {
+            return;
+        }
+        //Note: We have to get the predicted contents before checking if the stack already has a reservation, as getting them may rebuild
+        // the reservations of all the in-flight stacks, which includes this stack if it was already added to them
+        CONTENTS contents = getPredicted();
+        if (reservations.containsKey(stack)) {
+            return;
+        }
+        int[] stackSizes = getStackSizes(contents);
+        int[] before = Arrays.copyOf(stackSizes, stackSizes.length);
+        boolean blocking = simulateInsert(contents, stack);
+        Reservation reservation = new Reservation(blocking);
+        for (int slot = 0; slot < before.length; slot++) {
+            int amount = stackSizes[slot] - before[slot];
+            if (amount > 0) {
+                reservation.add(slot, amount);
+                if (reserved[slot] == 0) {
+                    reservedTypes[slot] = getType(contents, slot);
+                }
+                reserved[slot] += amount;
+            }
+        }
+        reservations.put(stack, reservation);
+        if (blocking) {
+            blockingStacks++;
+        }
+    }
+
+    public void release(STACK stack) {
+        Reservation reservation = reservations.remove(stack);
+        if (reservation != null) {
+            //Note: We don't update the predicted contents for this tick as if the stack arrived, then the actual contents went up by the same amount
+            for (int i = 0; i < reservation.size; i++) {
+                int slot = reservation.slots[i];
+                reserved[slot] -= reservation.amounts[i];
+                if (reserved[slot] == 0) {
+                    reservedTypes[slot] = null;
+                }
+            }
+            if (reservation.blocking) {
+                blockingStacks--;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if there is nothing in flight to this destination anymore, and we can stop tracking it.
+     */
+    public boolean tick() {
+        predicted = null;
+        return reservations.isEmpty();
+    }
+
+    private static class Reservation {
+
+        private final boolean blocking;
+        private int[] slots = new int[1];
+        private int[] amounts = new int[1];
+        private int size;
+
+        private Reservation(boolean blocking) {
+            this.blocking = blocking;
+        }
+
+        private void add(int slot, int amount) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                amounts = Arrays.copyOf(amounts, size * 2);
+            }
+            slots[size] = slot;
+            amounts[size] = amount;
+            size++;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package mekanism.common.content.transporter;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.Coord4D;
@@ -23,18 +27,49 @@ public class TransporterManager {
     }
 
     private static final Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Running ledgers of how much room the stacks that are in flight to a destination have reserved in each of its slots, per side of the destination.
+     */
+    private static final Map<Coord4D, Map<Direction, InventoryLedger>> ledgers = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        ledgers.clear();
+    }
+
+    public static void tick() {
+        //Drop the predicted contents so that they get rebuilt from the actual contents of the destinations,
+        // and stop keeping track of destinations that no longer have anything in flight to them
+        for (Iterator<Map<Direction, InventoryLedger>> iterator = ledgers.values().iterator(); iterator.hasNext(); ) {
+            Map<Direction, InventoryLedger> sides = iterator.next();
+            sides.values().removeIf(InventoryLedger::tick);
+            if (sides.isEmpty()) {
+                iterator.remove();
+            }
+        }
     }
 
     public static void add(World world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(new Coord4D(stack.getDest(), world), k -> new ObjectOpenHashSet<>()).add(stack);
+        Coord4D dest = new Coord4D(stack.getDest(), world);
+        flowingStacks.computeIfAbsent(dest, k -> new ObjectOpenHashSet<>()).add(stack);
+        Map<Direction, InventoryLedger> sides = ledgers.get(dest);
+        if (sides != null) {
+            for (InventoryLedger ledger : sides.values()) {
+                ledger.reserve(stack);
+            }
+        }
     }
 
     public static void remove(World world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(new Coord4D(stack.getDest(), world)).remove(stack);
+            Coord4D dest = new Coord4D(stack.getDest(), world);
+            flowingStacks.get(dest).remove(stack);
+            Map<Direction, InventoryLedger> sides = ledgers.get(dest);
+            if (sides != null) {
+                for (InventoryLedger ledger : sides.values()) {
+                    ledger.release(stack);
+                }
+            }
         }
     }
 
@@ -182,42 +217,51 @@ public class TransporterManager {
      * @return {@link TransitResponse} of expected items to use
      */
     public static TransitResponse getPredictedInsert(Coord4D position, Direction side, IItemHandler handler, TransitRequest request) {
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
-        //Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, then we can fail fast.
-        //Note: that stackSizes for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(position);
-        if (transporterStacks != null) {
-            for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyways so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack was able to be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
-                        }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return request.getEmptyResponse();
-                    }
-                }
+        InventoryLedger ledger = getLedger(position, side, handler);
+        InventoryInfo predicted = ledger.getPredicted();
+        if (ledger.hasBlockingStacks()) {
+            //An in-flight item failed to be inserted; there's no room for anyone else
+            return request.getEmptyResponse();
+        }
+        //Copy the predicted contents so that simulating our request doesn't affect any later predictions
+        return getPredictedInsert(handler, predicted.copy(), request);
+    }
+
+    /**
+     * Gets the {@link TransitResponse}s of what items we expect to be able to get used/inserted into the item handler at a given position for multiple requests at
+     * once. Each request is predicted as if it was the only one being sent, but the destination only has to be looked up once and the same copy of its predicted
+     * contents is reused for each request.
+     *
+     * @param position Position of the target
+     * @param side     Side of the target we are connecting to
+     * @param handler  The item handler the target has
+     * @param requests Transit requests
+     *
+     * @return {@link TransitResponse} of expected items to use for each request, in the same order as the requests.
+     */
+    public static TransitResponse[] getPredictedInserts(Coord4D position, Direction side, IItemHandler handler, List<TransitRequest> requests) {
+        TransitResponse[] responses = new TransitResponse[requests.size()];
+        InventoryLedger ledger = getLedger(position, side, handler);
+        InventoryInfo predicted = ledger.getPredicted();
+        if (ledger.hasBlockingStacks()) {
+            //An in-flight item failed to be inserted; there's no room for anyone else
+            for (int i = 0; i < responses.length; i++) {
+                responses[i] = requests.get(i).getEmptyResponse();
             }
+            return responses;
         }
+        InventoryInfo inventoryInfo = predicted.copy();
+        for (int i = 0; i < responses.length; i++) {
+            if (i > 0) {
+                //Undo what simulating the previous request changed
+                inventoryInfo.reset(predicted);
+            }
+            responses[i] = getPredictedInsert(handler, inventoryInfo, requests.get(i));
+        }
+        return responses;
+    }
 
+    private static TransitResponse getPredictedInsert(IItemHandler handler, InventoryInfo inventoryInfo, TransitRequest request) {
         //Now for each of the items in the request, simulate the insert, using the state from all the in-flight
         // items to ensure we have an accurate model of what will happen in future. We try each stack in the
         // request; it might be possible to not send the first item, but the second could work, etc.
@@ -237,6 +281,94 @@ public class TransporterManager {
         return request.getEmptyResponse();
     }
 
+    private static InventoryLedger getLedger(Coord4D position, Direction side, IItemHandler handler) {
+        Map<Direction, InventoryLedger> sides = ledgers.computeIfAbsent(position, pos -> new EnumMap<>(Direction.class));
+        InventoryLedger ledger = sides.get(side);
+        if (ledger == null || ledger.handler != handler) {
+            ledger = new InventoryLedger(position, handler, side);
+            sides.put(side, ledger);
+        }
+        return ledger;
+    }
+
+    private static class InventoryLedger extends ReservationLedger<TransporterStack, InventoryInfo, ItemStack> {
+
+        private final Coord4D position;
+        private final IItemHandler handler;
+        private final Direction side;
+
+        private InventoryLedger(Coord4D position, IItemHandler handler, Direction side) {
+            this.position = position;
+            this.handler = handler;
+            this.side = side;
+        }
+
+        @Override
+        protected InventoryInfo readContents() {
+            return new InventoryInfo(handler);
+        }
+
+        @Override
+        protected int getSlots(InventoryInfo contents) {
+            return contents.slots;
+        }
+
+        @Override
+        protected int[] getStackSizes(InventoryInfo contents) {
+            return contents.stackSizes;
+        }
+
+        @Override
+        protected int getSlotLimit(InventoryInfo contents, int slot) {
+            return contents.getSlotLimit(handler, slot);
+        }
+
+        @Override
+        protected ItemStack getType(InventoryInfo contents, int slot) {
+            return contents.inventory[slot];
+        }
+
+        @Override
+        protected void setType(InventoryInfo contents, int slot, ItemStack type) {
+            contents.inventory[slot] = type;
+        }
+
+        @Override
+        protected boolean isStackable(ItemStack a, ItemStack b) {
+            return InventoryUtils.areItemsStackable(a, b);
+        }
+
+        @Override
+        protected Iterable<TransporterStack> getInFlight() {
+            Set<TransporterStack> transporterStacks = flowingStacks.get(position);
+            return transporterStacks == null ? Collections.emptySet() : transporterStacks;
+        }
+
+        @Override
+        protected boolean canReserve(TransporterStack stack) {
+            return stack.getPathType() != Path.NONE;
+        }
+
+        @Override
+        protected boolean simulateInsert(InventoryInfo contents, TransporterStack stack) {
+            //We start by simulating inserting the stack into the handler, regardless of if we
+            // are interacting with the same side of the target as the stack's path is taking.
+            // This is so that in cases where the item handler is shared (chests) or some of
+            // the slots of the item handler may be shared (our machines with multiple sides
+            // set to the same side config are "different" because of the side proxies) then
+            // we want to make sure we try to insert the in-flight stacks anyways so that if
+            // the slot is the same we fill it.
+            int count = stack.itemStack.getCount();
+            int numLeftOver = TransporterManager.simulateInsert(handler, contents, stack.itemStack, count, true);
+            //If none of the stack was able to be inserted, check if we are attempting to insert it
+            // into the same side as the side we are predicting that we can insert into. If we are not,
+            // then assume that the destination does not contain the slot that the in-flight stack is
+            // en-route to at all, so don't block other stacks just because of failing to insert it into
+            // the destination, and instead continue checking and then simulate/check our TransitRequest
+            return numLeftOver > 0 && (numLeftOver != count || side == stack.getSideOfDest());
+        }
+    }
+
     /**
      * Information about the inventory, keeps track of the size of a stack a slot will have, and a cache of what {@link IItemHandler#getStackInSlot(int)} returns (as it
      * has to call it anyways to get the stack size). This cache allows potentially expensive {@link IItemHandler#getStackInSlot(int)} implementations to only have to be
@@ -265,6 +397,27 @@ public class TransporterManager {
             }
         }
 
+        private InventoryInfo(InventoryInfo other) {
+            slots = other.slots;
+            inventory = Arrays.copyOf(other.inventory, slots);
+            stackSizes = Arrays.copyOf(other.stackSizes, slots);
+            actualStackSizes = other.actualStackSizes;
+            //Slot limits only depend on the handler so can be shared, which also lets the copies share lazily initialized limits
+            slotLimits = other.slotLimits;
+        }
+
+        public InventoryInfo copy() {
+            return new InventoryInfo(this);
+        }
+
+        /**
+         * Resets the contents of this copy back to the contents of the info it was copied from.
+         */
+        private void reset(InventoryInfo other) {
+            System.arraycopy(other.inventory, 0, inventory, 0, slots);
+            System.arraycopy(other.stackSizes, 0, stackSizes, 0, slots);
+        }
+
         public int getSlotLimit(IItemHandler handler, int slot) {
             int limit = slotLimits[slot];
             if (limit == -1) {
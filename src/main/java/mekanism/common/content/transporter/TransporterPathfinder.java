@@ -1,5 +1,10 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleMap;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
@@ -10,6 +15,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -18,7 +24,6 @@ import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
-import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
@@ -46,7 +51,11 @@ public final class TransporterPathfinder {
             return Collections.emptyList();
         }
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap);
+        return getPaths(network, network.calculateAcceptors(request, stack, chunkMap), start, stack, min, chunkMap);
+    }
+
+    private static List<Destination> getPaths(InventoryNetwork network, List<AcceptorData> acceptors, LogisticalTransporterBase start, TransporterStack stack, int min,
+          Long2ObjectMap<IChunk> chunkMap) {
         List<Destination> paths = new ArrayList<>();
         for (AcceptorData data : acceptors) {
             Destination path = getPath(network, data, start, stack, min, chunkMap);
@@ -82,17 +91,18 @@ public final class TransporterPathfinder {
             if (test != null && checkPath(network, test.getPath(), stack)) {
                 return new Destination(test.getPath(), false, response, test.getCost());
             }
-            Pathfinder p = new Pathfinder(new DestChecker() {
+            //Look the destination up in the shortest path tree from our start, which is shared between all destinations
+            // instead of searching the network again for each one
+            PathTree tree = PathfinderCache.getPathTree(start, stack);
+            TreePath path = tree.getPath(network, start.getTileWorld(), dest, new DestChecker() {
                 @Override
                 public boolean isValid(TransporterStack stack, Direction side, TileEntity tile) {
                     return TransporterUtils.canInsert(tile, stack.color, response.getStack(), side, false);
                 }
-            }, network, start.getTileWorld(), dest, start.getTilePos(), stack);
-            p.find(chunkMap);
-            List<BlockPos> path = p.getPath();
-            if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(start, new PathData(start.getTilePos(), dest, p.getSide()), path, p.finalScore);
-                return new Destination(path, false, response, p.finalScore);
+            }, stack, chunkMap);
+            if (path != null) {
+                PathfinderCache.addCachedPath(start, dest, path.side, path.path, path.score);
+                return new Destination(path.path, false, response, path.score);
             }
         }
         return null;
@@ -111,10 +121,45 @@ public final class TransporterPathfinder {
     public static Destination getNewRRPath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, TileEntityLogisticalSorter outputter,
           int min) {
         List<Destination> destinations = getPaths(start, stack, request, min);
-        int destinationCount = destinations.size();
-        if (destinationCount == 0) {
+        if (destinations.isEmpty()) {
             return null;
         }
+        return getRRDestination(destinations, outputter);
+    }
+
+    /**
+     * Finds a destination for the first of the given requests that can be sent anywhere. The acceptors of all the requests are calculated in one go, and paths are then
+     * only searched for until a request is found that can be sent.
+     *
+     * @param stacks      The stack each request would be sent as, in the same order as the requests.
+     * @param mins        The min amount of each request that has to be sent, in the same order as the requests.
+     * @param rrOutputter The sorter to get the next round robin destination of, or {@code null} to get the closest destination.
+     *
+     * @return The index of the request that can be sent along with its destination, or {@code null} if none of them can be sent.
+     */
+    @Nullable
+    public static Pair<Integer, Destination> getFirstPath(LogisticalTransporterBase start, List<TransporterStack> stacks, List<TransitRequest> requests, IntList mins,
+          @Nullable TileEntityLogisticalSorter rrOutputter) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (network == null) {
+            return null;
+        }
+        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        List<List<AcceptorData>> acceptors = network.calculateAcceptors(requests, stacks, chunkMap);
+        for (int i = 0; i < acceptors.size(); i++) {
+            List<AcceptorData> requestAcceptors = acceptors.get(i);
+            if (!requestAcceptors.isEmpty()) {
+                List<Destination> destinations = getPaths(network, requestAcceptors, start, stacks.get(i), mins.getInt(i), chunkMap);
+                if (!destinations.isEmpty()) {
+                    return Pair.of(i, rrOutputter == null ? destinations.get(0) : getRRDestination(destinations, rrOutputter));
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Destination getRRDestination(List<Destination> destinations, TileEntityLogisticalSorter outputter) {
+        int destinationCount = destinations.size();
         if (destinationCount > 1 && outputter.rrTarget != null) {
             //If we have more than one destination and have a "next" round robin target stored
             // go through the different destinations and find one that matches
@@ -324,6 +369,199 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Shortest paths from a single transporter to every transporter in the network it can reach for stacks of a given colour.
+     */
+    public static class PathTree {
+
+        private final Long2LongMap parents = new Long2LongOpenHashMap();
+        private final Long2DoubleMap gScore = new Long2DoubleOpenHashMap();
+        private final BlockPos start;
+
+        private PathTree(BlockPos start) {
+            this.start = start;
+        }
+
+        /**
+         * @return The number of transporters this tree reaches.
+         */
+        public int size() {
+            return gScore.size();
+        }
+
+        public static PathTree create(InventoryNetwork network, BlockPos start, TransporterStack stack) {
+            return create(new NetworkGraph(network, stack), start);
+        }
+
+        static <NODE> PathTree create(TransporterGraph<NODE> graph, BlockPos start) {
+            PathTree tree = new PathTree(start);
+            NODE startNode = graph.getNode(start);
+            if (startNode != null) {
+                tree.build(graph, startNode);
+            }
+            return tree;
+        }
+
+        private <NODE> void build(TransporterGraph<NODE> graph, NODE startNode) {
+            PriorityQueue<Node<NODE>> openSet = new PriorityQueue<>();
+            gScore.put(start.asLong(), 0D);
+            openSet.add(new Node<>(start, startNode, 0));
+            while (!openSet.isEmpty()) {
+                Node<NODE> current = openSet.poll();
+                long currentPos = current.pos.asLong();
+                if (current.score > gScore.get(currentPos)) {
+                    //We already found a shorter path to this node, skip the outdated entry
+                    continue;
+                }
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    BlockPos neighbor = current.pos.relative(direction);
+                    NODE neighborNode = graph.getNode(neighbor);
+                    if (graph.canMove(current.node, direction, neighborNode)) {
+                        double tentativeG = current.score + graph.getCost(neighborNode);
+                        long neighborPos = neighbor.asLong();
+                        if (!gScore.containsKey(neighborPos) || tentativeG < gScore.get(neighborPos)) {
+                            gScore.put(neighborPos, tentativeG);
+                            parents.put(neighborPos, currentPos);
+                            openSet.add(new Node<>(neighbor, neighborNode, tentativeG));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} if this tree has a path from its start to the given transporter.
+         */
+        boolean reaches(BlockPos transporter) {
+            return gScore.containsKey(transporter.asLong());
+        }
+
+        /**
+         * Finds the cheapest path from the start of this tree to a transporter next to the destination that can insert into it.
+         *
+         * @return The path, or {@code null} if the destination can't be reached.
+         */
+        @Nullable
+        public TreePath getPath(InventoryNetwork network, World world, BlockPos dest, DestChecker checker, TransporterStack stack, Long2ObjectMap<IChunk> chunkMap) {
+            TileEntity destTile = null;
+            BlockPos bestTransporter = null;
+            Direction bestSide = null;
+            double bestScore = 0;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                //Note: side is the direction we move in to go from the transporter into the destination
+                BlockPos transporterPos = dest.relative(side.getOpposite());
+                long pos = transporterPos.asLong();
+                if (gScore.containsKey(pos)) {
+                    double score = gScore.get(pos) + WorldUtils.distanceBetween(transporterPos, dest);
+                    if (bestSide == null || score < bestScore) {
+                        LogisticalTransporterBase transporter = network.getTransmitter(transporterPos);
+                        if (transporter != null) {
+                            if (destTile == null) {
+                                destTile = WorldUtils.getTileEntity(world, chunkMap, dest);
+                                if (destTile == null) {
+                                    return null;
+                                }
+                            }
+                            if (checker.isValid(stack, side, destTile) && (transporter.canEmitTo(side) ||
+                                                                           (dest.equals(stack.homeLocation) && transporter.canConnect(side)))) {
+                                bestTransporter = transporterPos;
+                                bestSide = side;
+                                bestScore = score;
+                            }
+                        }
+                    }
+                }
+            }
+            if (bestSide == null) {
+                return null;
+            }
+            List<BlockPos> path = new ArrayList<>();
+            path.add(dest);
+            long startPos = start.asLong();
+            for (long pos = bestTransporter.asLong(); pos != startPos; pos = parents.get(pos)) {
+                path.add(BlockPos.of(pos));
+            }
+            path.add(start);
+            return new TreePath(path, bestSide, bestScore);
+        }
+
+        private static class Node<NODE> implements Comparable<Node<NODE>> {
+
+            private final BlockPos pos;
+            private final NODE node;
+            private final double score;
+
+            private Node(BlockPos pos, NODE node, double score) {
+                this.pos = pos;
+                this.node = node;
+                this.score = score;
+            }
+
+            @Override
+            public int compareTo(@Nonnull Node<NODE> other) {
+                return Double.compare(score, other.score);
+            }
+        }
+    }
+
+    /**
+     * The transporters a {@link PathTree} gets built over.
+     *
+     * @param <NODE> What is at a position of the graph.
+     */
+    interface TransporterGraph<NODE> {
+
+        @Nullable
+        NODE getNode(BlockPos pos);
+
+        /**
+         * @return {@code true} if a stack can move from the given node to the neighboring node in the given direction.
+         */
+        boolean canMove(NODE from, Direction direction, @Nullable NODE to);
+
+        double getCost(NODE node);
+    }
+
+    private static class NetworkGraph implements TransporterGraph<LogisticalTransporterBase> {
+
+        private final InventoryNetwork network;
+        private final TransporterStack stack;
+
+        private NetworkGraph(InventoryNetwork network, TransporterStack stack) {
+            this.network = network;
+            this.stack = stack;
+        }
+
+        @Nullable
+        @Override
+        public LogisticalTransporterBase getNode(BlockPos pos) {
+            return network.getTransmitter(pos);
+        }
+
+        @Override
+        public boolean canMove(LogisticalTransporterBase from, Direction direction, @Nullable LogisticalTransporterBase to) {
+            return stack.canInsertToTransporter(to, direction, from);
+        }
+
+        @Override
+        public double getCost(LogisticalTransporterBase node) {
+            return node.getCost();
+        }
+    }
+
+    public static class TreePath {
+
+        private final List<BlockPos> path;
+        private final Direction side;
+        private final double score;
+
+        private TreePath(List<BlockPos> path, Direction side, double score) {
+            this.path = path;
+            this.side = side;
+            this.score = score;
+        }
+    }
+
     public static class Pathfinder {
 
         private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
@@ -165,18 +165,14 @@ public class TransporterStack {
     }
 
     public TransitResponse recalculatePath(TransitRequest request, LogisticalTransporterBase transporter, int min) {
-        Destination newPath = TransporterPathfinder.getNewBasePath(transporter, this, request, min);
-        if (newPath == null) {
-            return request.getEmptyResponse();
-        }
-        idleDir = null;
-        setPath(transporter.getTileWorld(), newPath.getPath(), Path.DEST);
-        initiatedPath = true;
-        return newPath.getResponse();
+        return setDestination(request, transporter, TransporterPathfinder.getNewBasePath(transporter, this, request, min));
     }
 
     public TransitResponse recalculateRRPath(TransitRequest request, TileEntityLogisticalSorter outputter, LogisticalTransporterBase transporter, int min) {
-        Destination newPath = TransporterPathfinder.getNewRRPath(transporter, this, request, outputter, min);
+        return setDestination(request, transporter, TransporterPathfinder.getNewRRPath(transporter, this, request, outputter, min));
+    }
+
+    public TransitResponse setDestination(TransitRequest request, LogisticalTransporterBase transporter, @Nullable Destination newPath) {
         if (newPath == null) {
             return request.getEmptyResponse();
         }
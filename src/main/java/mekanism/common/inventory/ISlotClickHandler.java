@@ -1,6 +1,5 @@
 package mekanism.common.inventory;
 
-import java.util.UUID;
 import mekanism.common.lib.inventory.HashedItem;
 import net.minecraft.item.ItemStack;
 
@@ -12,7 +11,7 @@ public interface ISlotClickHandler {
 
         HashedItem getItem();
 
-        UUID getItemUUID();
+        int getItemTypeId();
 
         long getCount();
 
@@ -4,9 +4,11 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -19,8 +21,8 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.SearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
-import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
 import mekanism.common.inventory.GuiComponents.IToggleEnum;
 import mekanism.common.inventory.ISlotClickHandler;
@@ -30,7 +32,7 @@ import mekanism.common.inventory.container.slot.VirtualCraftingOutputSlot;
 import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
 import mekanism.common.inventory.slot.CraftingWindowInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import mekanism.common.network.to_server.PacketGuiItemDataRequest;
 import mekanism.common.network.to_server.PacketQIOItemViewerSlotInteract;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
@@ -51,6 +53,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final int SLOTS_X_MIN = 8, SLOTS_X_MAX = 16, SLOTS_Y_MIN = 2, SLOTS_Y_MAX = 48;
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = 20;
+    /**
+     * Maximum number of changed types in an update for which we reposition the changed types in the sorted item list instead of resorting the entire list. Each
+     * repositioned type has to shift part of the list, so past a point resorting everything is cheaper.
+     */
+    private static final int MAX_INCREMENTAL_SORT_CHANGES = 256;
 
     public static int getSlotsYMax() {
         int maxY = (int) Math.ceil(Minecraft.getInstance().getWindow().getGuiScaledHeight() * 0.05 - 8) + 1;
@@ -60,15 +67,20 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private ListSortType sortType = MekanismConfig.client.qioItemViewerSortType.get();
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
-    private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    private Object2LongMap<TypeIdAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    /** Parts of a batch update we have received but that we are still waiting for the rest of. */
+    @Nullable
+    private Object2LongMap<TypeIdAwareHashedItem> pendingBatch;
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
 
     private List<IScrollableSlot> itemList;
+    private Map<HashedItem, ItemSlotData> itemSlots = new Object2ObjectOpenHashMap<>();
     private List<IScrollableSlot> searchList;
 
     private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private SearchIndex<HashedItem> searchIndex = new SearchIndex<>();
     private String searchQuery = "";
 
     private int doubleClickTransferTicks = 0;
@@ -118,8 +130,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
+        container.itemSlots = itemSlots;
         container.searchList = searchList;
         container.searchCache = searchCache;
+        container.searchIndex = searchIndex;
+        container.pendingBatch = pendingBatch;
         container.searchQuery = searchQuery;
         container.selectedWindow = getSelectedWindow();
     }
@@ -297,31 +312,93 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return transferSuccess(currentSlot, player, currentSlot.getItem(), ret);
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleBatchPart(Object2LongMap<TypeIdAwareHashedItem> itemMap) {
+        if (pendingBatch == null) {
+            pendingBatch = itemMap;
+        } else {
+            pendingBatch.putAll(itemMap);
+        }
+    }
+
+    public void handleBatchUpdate(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+        if (pendingBatch != null) {
+            pendingBatch.putAll(itemMap);
+            itemMap = pendingBatch;
+            pendingBatch = null;
+        }
         cachedInventory = itemMap;
+        searchIndex.clear();
+        for (TypeIdAwareHashedItem type : cachedInventory.keySet()) {
+            addToSearchIndex(type);
+        }
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        itemMap.object2LongEntrySet().forEach(entry -> {
+    public void handleUpdate(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+        boolean incremental = itemList != null && itemMap.size() <= MAX_INCREMENTAL_SORT_CHANGES;
+        Comparator<IScrollableSlot> comparator = sortType.getComparator(sortDirection);
+        for (Object2LongMap.Entry<TypeIdAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
             long value = entry.getLongValue();
+            TypeIdAwareHashedItem type = entry.getKey();
             if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
+                cachedInventory.removeLong(type);
+                searchIndex.remove(type);
+            } else if (cachedInventory.put(type, value) == 0) {
+                //If we didn't have the type stored yet, add it to the search index
+                addToSearchIndex(type);
             }
-        });
+            if (incremental) {
+                updateItemSlot(type, value, comparator);
+            }
+        }
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        syncItemList();
+        if (incremental) {
+            searchCache.clear();
+            if (!searchQuery.isEmpty()) {
+                updateSearch(searchQuery);
+            }
+        } else {
+            syncItemList();
+        }
+    }
+
+    /**
+     * Moves the slot of the given type to its new position in the sorted item list, or removes it if the type is no longer stored.
+     */
+    private void updateItemSlot(TypeIdAwareHashedItem type, long count, Comparator<IScrollableSlot> comparator) {
+        ItemSlotData oldSlot = itemSlots.remove(type);
+        if (oldSlot != null) {
+            //Note: The comparators are total, so the binary search will find exactly the slot we are looking for
+            int index = Collections.binarySearch(itemList, oldSlot, comparator);
+            if (index >= 0) {
+                itemList.remove(index);
+            }
+            totalItems -= oldSlot.count;
+        }
+        if (count > 0) {
+            ItemSlotData slot = new ItemSlotData(type, type.getTypeId(), count, oldSlot);
+            int index = Collections.binarySearch(itemList, slot, comparator);
+            itemList.add(index < 0 ? -index - 1 : index, slot);
+            itemSlots.put(type, slot);
+            totalItems += count;
+        }
     }
 
     public void handleKill() {
         itemList = null;
         searchList = null;
+        pendingBatch = null;
         cachedInventory.clear();
+        itemSlots.clear();
+        searchIndex.clear();
+    }
+
+    private void addToSearchIndex(HashedItem type) {
+        ItemStack stack = type.getStack();
+        searchIndex.add(type, queryType -> queryType.getSearchStrings(stack));
     }
 
     public QIOCraftingTransferHelper getTransferHelper(PlayerEntity player, byte selectedCraftingGrid) {
@@ -335,8 +412,13 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList.clear();
         searchCache.clear();
         totalItems = 0;
+        Map<HashedItem, ItemSlotData> oldSlots = itemSlots;
+        itemSlots = new Object2ObjectOpenHashMap<>(cachedInventory.size());
         cachedInventory.forEach((key, value) -> {
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
+            //Reuse any names we already looked up for the type so that we don't have to look them up again when sorting
+            ItemSlotData slot = new ItemSlotData(key, key.getTypeId(), value, oldSlots.get(key));
+            itemList.add(slot);
+            itemSlots.put(key, slot);
             totalItems += value;
         });
         sortItemList();
@@ -443,10 +525,13 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return;
         }
         list = new ArrayList<>();
-        ISearchQuery query = SearchQueryParser.parse(queryText);
-        for (IScrollableSlot slot : itemList) {
-            if (query.matches(slot.getItem().getStack())) {
-                list.add(slot);
+        Set<HashedItem> matches = searchIndex.search(SearchQueryParser.parse(queryText));
+        if (!matches.isEmpty()) {
+            //Note: We go through the item list rather than the matches so that the search results keep the same order as the sorted items
+            for (IScrollableSlot slot : itemList) {
+                if (matches.contains(slot.getItem())) {
+                    list.add(slot);
+                }
             }
         }
         searchList = list;
@@ -458,14 +543,14 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public void onClick(IScrollableSlot slot, int button, boolean hasShiftDown, ItemStack heldItem) {
         if (hasShiftDown) {
             if (slot != null) {
-                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.shiftTake(slot.getItemUUID()));
+                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.shiftTake(slot.getItemTypeId()));
             }
             return;
         }
         if (button == 0) {
             if (heldItem.isEmpty() && slot != null) {
                 int toTake = Math.min(slot.getItem().getStack().getMaxStackSize(), MathUtils.clampToInt(slot.getCount()));
-                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getItemUUID(), toTake));
+                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getItemTypeId(), toTake));
             } else if (!heldItem.isEmpty()) {
                 Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.put(heldItem.getCount()));
             }
@@ -473,7 +558,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             if (heldItem.isEmpty() && slot != null) {
                 //Cap it out at the max stack size of the item, but try to take half of what is stored (taking at least one if it is a single item)
                 int toTake = Math.min(slot.getItem().getStack().getMaxStackSize(), Math.max(1, MathUtils.clampToInt(slot.getCount() / 2)));
-                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getItemUUID(), toTake));
+                Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.take(slot.getItemTypeId(), toTake));
             } else if (!heldItem.isEmpty()) {
                 Mekanism.packetHandler.sendToServer(PacketQIOItemViewerSlotInteract.put(1));
             }
@@ -483,13 +568,22 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static class ItemSlotData implements IScrollableSlot {
 
         private final HashedItem itemType;
-        private final UUID typeUUID;
+        private final int typeId;
         private final long count;
+        //Lazily looked up and cached as these get queried a lot when sorting
+        @Nullable
+        private String modID;
+        @Nullable
+        private String displayName;
 
-        private ItemSlotData(HashedItem itemType, UUID typeUUID, long count) {
+        private ItemSlotData(HashedItem itemType, int typeId, long count, @Nullable ItemSlotData previous) {
             this.itemType = itemType;
-            this.typeUUID = typeUUID;
+            this.typeId = typeId;
             this.count = count;
+            if (previous != null) {
+                this.modID = previous.modID;
+                this.displayName = previous.displayName;
+            }
         }
 
         @Override
@@ -498,8 +592,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
 
         @Override
-        public UUID getItemUUID() {
-            return typeUUID;
+        public int getItemTypeId() {
+            return typeId;
         }
 
         @Override
@@ -509,12 +603,18 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
 
         @Override
         public String getModID() {
-            return MekanismUtils.getModId(getItem().getStack());
+            if (modID == null) {
+                modID = MekanismUtils.getModId(getItem().getStack());
+            }
+            return modID;
         }
 
         @Override
         public String getDisplayName() {
-            return getItem().getStack().getHoverName().getString();
+            if (displayName == null) {
+                displayName = getItem().getStack().getHoverName().getString();
+            }
+            return displayName;
         }
     }
 
@@ -546,11 +646,15 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     }
 
     public enum ListSortType implements IDropdownEnum<ListSortType> {
-        NAME(MekanismLang.LIST_SORT_NAME, MekanismLang.LIST_SORT_NAME_DESC, Comparator.comparing(IScrollableSlot::getDisplayName)),
-        SIZE(MekanismLang.LIST_SORT_COUNT, MekanismLang.LIST_SORT_COUNT_DESC, Comparator.comparingLong(IScrollableSlot::getCount).thenComparing(IScrollableSlot::getDisplayName),
-              Comparator.comparingLong(IScrollableSlot::getCount).reversed().thenComparing(IScrollableSlot::getDisplayName)),
-        MOD(MekanismLang.LIST_SORT_MOD, MekanismLang.LIST_SORT_MOD_DESC, Comparator.comparing(IScrollableSlot::getModID).thenComparing(IScrollableSlot::getDisplayName),
-              Comparator.comparing(IScrollableSlot::getModID).reversed().thenComparing(IScrollableSlot::getDisplayName));
+        //Note: All the comparators fall back to comparing the type ids so that no two slots compare as equal, this allows binary searching for specific slots
+        NAME(MekanismLang.LIST_SORT_NAME, MekanismLang.LIST_SORT_NAME_DESC, Comparator.comparing(IScrollableSlot::getDisplayName)
+              .thenComparingInt(IScrollableSlot::getItemTypeId)),
+        SIZE(MekanismLang.LIST_SORT_COUNT, MekanismLang.LIST_SORT_COUNT_DESC, Comparator.comparingLong(IScrollableSlot::getCount).thenComparing(IScrollableSlot::getDisplayName)
+              .thenComparingInt(IScrollableSlot::getItemTypeId), Comparator.comparingLong(IScrollableSlot::getCount).reversed()
+              .thenComparing(IScrollableSlot::getDisplayName).thenComparingInt(IScrollableSlot::getItemTypeId)),
+        MOD(MekanismLang.LIST_SORT_MOD, MekanismLang.LIST_SORT_MOD_DESC, Comparator.comparing(IScrollableSlot::getModID).thenComparing(IScrollableSlot::getDisplayName)
+              .thenComparingInt(IScrollableSlot::getItemTypeId), Comparator.comparing(IScrollableSlot::getModID).reversed()
+              .thenComparing(IScrollableSlot::getDisplayName).thenComparingInt(IScrollableSlot::getItemTypeId));
 
         private final ILangEntry name;
         private final ILangEntry tooltip;
@@ -569,7 +673,11 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
 
         public void sort(List<IScrollableSlot> list, SortDirection direction) {
-            list.sort(direction.isAscending() ? ascendingComparator : descendingComparator);
+            list.sort(getComparator(direction));
+        }
+
+        public Comparator<IScrollableSlot> getComparator(SortDirection direction) {
+            return direction.isAscending() ? ascendingComparator : descendingComparator;
         }
 
         @Override
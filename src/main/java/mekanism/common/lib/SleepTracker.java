@@ -0,0 +1,66 @@
+package mekanism.common.lib;
+
+/**
+ * Keeps track of whether a tile has been idle long enough that it can stop ticking until something happens that may give it work to do. Sleeping tiles still tick
+ * every {@link #MAX_SLEEP_TICKS} ticks so that anything that changed without waking them up (such as a neighboring inventory being emptied) is noticed eventually.
+ */
+public class SleepTracker {
+
+    /**
+     * Number of ticks in a row a tile has to be idle before it is put to sleep.
+     */
+    public static final int IDLE_TICKS_BEFORE_SLEEP = 20;
+    /**
+     * Max number of ticks a tile sleeps before it ticks again to check if it is still idle.
+     */
+    public static final int MAX_SLEEP_TICKS = 20;
+
+    private int idleTicks;
+    private int sleptTicks;
+    private boolean sleeping;
+    private boolean woken;
+
+    /**
+     * @return {@code true} if the tile should tick this tick.
+     */
+    public boolean shouldTick() {
+        if (sleeping) {
+            if (++sleptTicks < MAX_SLEEP_TICKS) {
+                return false;
+            }
+            sleptTicks = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Called after the tile ticked.
+     *
+     * @param idle Whether the tile had nothing to do this tick.
+     */
+    public void onTicked(boolean idle) {
+        if (idle && !woken) {
+            if (!sleeping && ++idleTicks >= IDLE_TICKS_BEFORE_SLEEP) {
+                sleeping = true;
+                sleptTicks = 0;
+            }
+        } else {
+            sleeping = false;
+            idleTicks = 0;
+        }
+        woken = false;
+    }
+
+    /**
+     * Wakes the tile up if it is sleeping and makes sure it does not go to sleep at the end of the current tick.
+     */
+    public void wake() {
+        sleeping = false;
+        idleTicks = 0;
+        woken = true;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+}
@@ -0,0 +1,54 @@
+package mekanism.common.lib;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import mekanism.common.Mekanism;
+
+/**
+ * Pool of daemon threads for work that can be done off the main thread, such as validating snapshots of multiblocks or searching for blocks to mine. Results should be
+ * handed back to the main thread before they are used to modify the world. Each kind of work gets its own pool so that a backlog of one kind (for example a lot of large
+ * Digital Miner searches) can't hold up the other.
+ */
+public class WorkerPool {
+
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    public static final WorkerPool MULTIBLOCK = new WorkerPool("Mekanism Multiblock Worker", THREADS);
+    public static final WorkerPool MINER_SEARCH = new WorkerPool("Mekanism Miner Search", THREADS);
+
+    private final ExecutorService executor;
+
+    private WorkerPool(String name, int threads) {
+        executor = Executors.newFixedThreadPool(threads, new WorkerThreadFactory(name));
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+        private final String name;
+
+        private WorkerThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + " #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> Mekanism.logger.error("Uncaught exception in {}", t.getName(), e));
+            return thread;
+        }
+    }
+}
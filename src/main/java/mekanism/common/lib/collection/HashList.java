@@ -31,6 +31,7 @@ public class HashList<T> extends AbstractList<T> {
     @Override
     public void clear() {
         list.clear();
+        modCount++;
     }
 
     @Override
@@ -45,7 +46,11 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public boolean add(T obj) {
-        return !list.contains(obj) && list.add(obj);
+        if (!list.contains(obj) && list.add(obj)) {
+            modCount++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -57,6 +62,7 @@ public class HashList<T> extends AbstractList<T> {
                 }
             }
             list.add(index, obj);
+            modCount++;
         }
     }
 
@@ -67,7 +73,9 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public T remove(int index) {
-        return list.remove(index);
+        T removed = list.remove(index);
+        modCount++;
+        return removed;
     }
 
     public void replace(int index, T obj) {
@@ -79,7 +87,11 @@ public class HashList<T> extends AbstractList<T> {
 
     @Override
     public boolean remove(Object obj) {
-        return list.remove(obj);
+        if (list.remove(obj)) {
+            modCount++;
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -111,6 +123,14 @@ public class HashList<T> extends AbstractList<T> {
         T temp = list.get(source);
         list.set(source, list.get(target));
         list.set(target, temp);
+        modCount++;
+    }
+
+    /**
+     * @return A counter that changes whenever elements are added to, removed from, or moved around in this list. Useful for caching things computed from the contents.
+     */
+    public int getModCount() {
+        return modCount;
     }
 
     @Override
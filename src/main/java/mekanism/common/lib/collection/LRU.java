@@ -73,6 +73,14 @@ public class LRU<T> extends AbstractCollection<T> {
         return size;
     }
 
+    @Override
+    public void clear() {
+        head.next = tail;
+        tail.prev = head;
+        size = 0;
+        lookupMap.clear();
+    }
+
     public void reverseIterate(Consumer<T> callback) {
         LRUEntry ptr = tail.prev;
         while (ptr != head) {
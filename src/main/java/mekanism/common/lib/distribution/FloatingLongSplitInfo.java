@@ -12,7 +12,8 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
         super(totalTargets);
         this.amountToSplit = amountToSplit.copy();
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
+        //Start with a mutable zero so that adding each sent amount modifies it in place instead of creating a new object for the first send
+        sentSoFar = FloatingLong.create(0);
     }
 
     @Override
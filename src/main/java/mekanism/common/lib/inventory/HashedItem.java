@@ -1,8 +1,6 @@
 package mekanism.common.lib.inventory;
 
-import java.util.UUID;
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.ItemHandlerHelper;
@@ -79,29 +77,28 @@ public class HashedItem {
         return code;
     }
 
-    public static class UUIDAwareHashedItem extends HashedItem {
+    public static class TypeIdAwareHashedItem extends HashedItem {
 
-        private final UUID uuid;
+        private final int typeId;
         private final boolean overrideHash;
 
         /**
-         * @apiNote For use on the client side, hash is taken into account for equals and hashCode
+         * @apiNote For use on the client side, type id is taken into account for equals and hashCode
          */
-        public UUIDAwareHashedItem(ItemStack stack, UUID uuid) {
+        public TypeIdAwareHashedItem(ItemStack stack, int typeId) {
             super(StackUtils.size(stack, 1));
-            this.uuid = uuid;
+            this.typeId = typeId;
             this.overrideHash = true;
         }
 
-        public UUIDAwareHashedItem(HashedItem other, UUID uuid) {
+        public TypeIdAwareHashedItem(HashedItem other, int typeId) {
             super(other);
-            this.uuid = uuid;
+            this.typeId = typeId;
             this.overrideHash = false;
         }
 
-        @Nullable
-        public UUID getUUID() {
-            return uuid;
+        public int getTypeId() {
+            return typeId;
         }
 
         @Override
@@ -109,25 +106,25 @@ public class HashedItem {
             if (obj == this) {
                 return true;
             }
-            if (overrideHash && uuid != null) {
-                return obj instanceof UUIDAwareHashedItem && uuid.equals(((UUIDAwareHashedItem) obj).uuid) && super.equals(obj);
+            if (overrideHash) {
+                return obj instanceof TypeIdAwareHashedItem && typeId == ((TypeIdAwareHashedItem) obj).typeId && super.equals(obj);
             }
             return super.equals(obj);
         }
 
         @Override
         public int hashCode() {
-            if (overrideHash && uuid != null) {
-                return 31 * super.hashCode() + uuid.hashCode();
+            if (overrideHash) {
+                return 31 * super.hashCode() + typeId;
             }
             return super.hashCode();
         }
 
         /**
-         * Converts this to a raw HashedItem that doesn't care about UUID anymore.
+         * Converts this to a raw HashedItem that doesn't care about the type id anymore.
          */
         public HashedItem asRawHashedItem() {
             return new HashedItem(this);
         }
     }
-}
\ No newline at end of file
+}
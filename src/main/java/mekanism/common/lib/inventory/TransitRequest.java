@@ -70,7 +70,14 @@ public abstract class TransitRequest {
         }
         Optional<IItemHandler> capability = CapabilityUtils.getCapability(tile, CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side.getOpposite()).resolve();
         if (capability.isPresent()) {
-            IItemHandler inventory = capability.get();
+            return addToInventory(capability.get());
+        }
+        return getEmptyResponse();
+    }
+
+    @Nonnull
+    public TransitResponse addToInventory(IItemHandler inventory) {
+        if (!isEmpty()) {
             for (ItemData data : getItemData()) {
                 ItemStack origInsert = StackUtils.size(data.getStack(), data.getTotalCount());
                 ItemStack toInsert = origInsert.copy();
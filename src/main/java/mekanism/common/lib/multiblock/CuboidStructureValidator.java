@@ -3,7 +3,7 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
+import javax.annotation.Nullable;
 import mekanism.common.MekanismLang;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
@@ -17,6 +17,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.IChunk;
 
@@ -30,6 +31,10 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
 
     protected World world;
     protected MultiblockManager<T> manager;
+    @Nullable
+    private StructureSnapshot snapshot;
+    @Nullable
+    private ValidatedBounds<T> previous;
 
     public CuboidStructureValidator() {
         this(new VoxelCuboid(3, 3, 3), new VoxelCuboid(18, 18, 18));
@@ -49,6 +54,9 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
 
     @Override
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap) {
+        if (snapshot != null && previous != null) {
+            return validateChanges(ctx, chunkMap, snapshot, previous);
+        }
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
         BlockPos.Mutable mutablePos = new BlockPos.Mutable();
         for (int x = min.getX(); x <= max.getX(); x++) {
@@ -65,11 +73,51 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    /**
+     * Validates only the positions that changed since the same bounds were last validated, everything else is still valid so we can reuse what was found for it.
+     */
+    private FormationResult validateChanges(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap, StructureSnapshot snapshot, ValidatedBounds<T> previous) {
+        Set<BlockPos> changes = snapshot.getChanges(previous.snapshot);
+        ctx.locations.addAll(previous.locations);
+        ctx.innerNodes.addAll(previous.innerNodes);
+        previous.valves.forEach((pos, side) -> {
+            if (!changes.contains(pos)) {
+                ValveData data = new ValveData();
+                data.location = pos;
+                data.side = side;
+                ctx.valves.add(data);
+            }
+        });
+        for (BlockPos pos : previous.multiblocksFound) {
+            if (!changes.contains(pos)) {
+                //Get the tile from the new snapshot as we only store the positions of the tiles we found
+                addMultiblockFound(ctx, getStructureTile(pos));
+            }
+        }
+        for (BlockPos pos : changes) {
+            ctx.locations.remove(pos);
+            ctx.innerNodes.remove(pos);
+            FormationResult ret = validateNode(ctx, chunkMap, pos);
+            if (!ret.isFormed()) {
+                return ret;
+            }
+        }
+        return FormationResult.SUCCESS;
+    }
+
+    /**
+     * Whether validating the same bounds again can skip the positions that didn't change. Validators that compare positions to each other while validating should
+     * return {@code false}.
+     */
+    protected boolean canValidateChanges() {
+        return true;
+    }
+
     /**
      * @param pos Mutable BlockPos
      */
     protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap, BlockPos pos) {
-        Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
+        Optional<BlockState> optionalState = getBlockState(chunkMap, pos);
         if (!optionalState.isPresent()) {
             //If the position is not in a loaded chunk or out of bounds of the world, fail
             return FormationResult.FAIL;
@@ -84,7 +132,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
             }
         } else if (!validateInner(state, chunkMap, pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
-        } else if (!state.isAir(world, pos)) {
+        } else if (!state.isAir(getBlockReader(), pos)) {
             //Make sure the position is immutable before we store it
             ctx.innerNodes.add(pos.immutable());
         }
@@ -95,7 +143,26 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
      * @param pos Mutable BlockPos
      */
     protected boolean validateInner(BlockState state, Long2ObjectMap<IChunk> chunkMap, BlockPos pos) {
-        return state.isAir(world, pos);
+        return state.isAir(getBlockReader(), pos);
+    }
+
+    /**
+     * Gets the block state to validate, from the snapshot if we are validating one.
+     */
+    protected Optional<BlockState> getBlockState(Long2ObjectMap<IChunk> chunkMap, BlockPos pos) {
+        return snapshot == null ? WorldUtils.getBlockState(world, chunkMap, pos) : Optional.of(snapshot.getBlockState(pos));
+    }
+
+    /**
+     * Gets the node of the structure being validated, from the snapshot if we are validating one.
+     */
+    @Nullable
+    protected IMultiblockBase getStructureTile(BlockPos pos) {
+        return snapshot == null ? structure.getTile(pos) : snapshot.getNode(pos);
+    }
+
+    protected IBlockReader getBlockReader() {
+        return snapshot == null ? world : snapshot;
     }
 
     protected abstract CasingType getCasingType(BlockState state);
@@ -111,22 +178,14 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
      * @param pos Mutable BlockPos
      */
     protected FormationResult validateFrame(FormationProtocol<T> ctx, BlockPos pos, BlockState state, CasingType type, boolean needsFrame) {
-        IMultiblockBase tile = structure.getTile(pos);
+        IMultiblockBase tile = getStructureTile(pos);
         // terminate if we encounter a node that already failed this tick
         if (!isFrameCompatible((TileEntity) tile) || (needsFrame && !type.isFrame())) {
             //If it is not a valid node or if it is supposed to be a frame but is invalid
             // then we are not valid over all
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_FRAME, pos);
         }
-        if (tile instanceof IMultiblock) {
-            @SuppressWarnings("unchecked")
-            IMultiblock<T> multiblockTile = (IMultiblock<T>) tile;
-            UUID uuid = multiblockTile.getCacheID();
-            if (uuid != null && multiblockTile.getManager() == manager && multiblockTile.hasCache()) {
-                manager.updateCache(multiblockTile, multiblockTile.getMultiblock());
-                ctx.idsFound.add(uuid);
-            }
-        }
+        addMultiblockFound(ctx, tile);
         //Make sure the position is immutable before we store it
         pos = pos.immutable();
         ctx.locations.add(pos);
@@ -139,6 +198,40 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    private void addMultiblockFound(FormationProtocol<T> ctx, @Nullable IMultiblockBase tile) {
+        if (tile instanceof IMultiblock) {
+            @SuppressWarnings("unchecked")
+            IMultiblock<T> multiblockTile = (IMultiblock<T>) tile;
+            if (multiblockTile.getManager() == manager) {
+                //Note: The caches get updated by the protocol once we are done validating
+                ctx.multiblocksFound.add(multiblockTile);
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public StructureSnapshot takeSnapshot(Long2ObjectMap<IChunk> chunkMap) {
+        snapshot = StructureSnapshot.create(world, chunkMap, structure, cuboid.getMinPos(), cuboid.getMaxPos());
+        if (snapshot != null && canValidateChanges()) {
+            previous = manager.getValidatedBounds(world, cuboid);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void onSnapshotValidated(FormationProtocol<T> ctx) {
+        if (snapshot != null && canValidateChanges()) {
+            manager.addValidatedBounds(new ValidatedBounds<>(world.dimension(), cuboid, snapshot, ctx));
+        }
+    }
+
+    @Override
+    public void releaseSnapshot() {
+        snapshot = null;
+        previous = null;
+    }
+
     @Override
     public FormationResult postcheck(T structure, Set<BlockPos> innerNodes, Long2ObjectMap<IChunk> chunkMap) {
         return FormationResult.SUCCESS;
@@ -9,10 +9,16 @@ import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.item.ItemStack;
@@ -24,6 +30,10 @@ import net.minecraft.world.chunk.IChunk;
 public class FormationProtocol<T extends MultiblockData> {
 
     public static final int MAX_SIZE = 18;
+    /**
+     * How many ticks a pending formation may take to be validated on a worker thread, before it gets cancelled and validated on the main thread instead.
+     */
+    private static final int MAX_PENDING_TICKS = 20;
 
     /**
      * The original block the calculation is getting run from.
@@ -36,6 +46,7 @@ public class FormationProtocol<T extends MultiblockData> {
     public final Set<BlockPos> innerNodes = new ObjectOpenHashSet<>();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Set<UUID> idsFound = new ObjectOpenHashSet<>();
+    public final List<IMultiblock<T>> multiblocksFound = new ArrayList<>();
 
     public FormationProtocol(IMultiblock<T> tile, Structure structure) {
         pointer = tile;
@@ -50,7 +61,18 @@ public class FormationProtocol<T extends MultiblockData> {
         }
 
         Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
-        FormationResult result = validator.validate(this, chunkMap);
+        return finishStructure(validator, structure, validator.validate(this, chunkMap), chunkMap);
+    }
+
+    private StructureResult finishStructure(IStructureValidator<T> validator, T structure, FormationResult result, Long2ObjectMap<IChunk> chunkMap) {
+        //Update the caches of the multiblock tiles we found, this happens after validating as validation may not be running on the main thread
+        for (IMultiblock<T> multiblockTile : multiblocksFound) {
+            UUID uuid = multiblockTile.getCacheID();
+            if (uuid != null && multiblockTile.hasCache()) {
+                manager.updateCache(multiblockTile, multiblockTile.getMultiblock());
+                idsFound.add(uuid);
+            }
+        }
         if (!result.isFormed()) {
             return fail(result);
         }
@@ -71,7 +93,38 @@ public class FormationProtocol<T extends MultiblockData> {
         if (!validator.precheck()) {
             return FormationResult.FAIL;
         }
-        StructureResult result = buildStructure(validator);
+        return applyResult(buildStructure(validator));
+    }
+
+    /**
+     * Runs the protocol, but validates the bounds of the structure against a snapshot on a worker thread if the validator supports it. Everything that needs the
+     * world still happens on the main thread when the pending formation gets committed.
+     *
+     * @return The pending formation to commit once it is done, or {@code null} if the protocol already finished running.
+     */
+    @Nullable
+    public PendingFormation startUpdate() {
+        IStructureValidator<T> validator = manager.createValidator();
+        validator.init(pointer.getTileWorld(), manager, structure);
+        if (!validator.precheck()) {
+            return null;
+        }
+        T structureFound = pointer.createMultiblock();
+        if (!structureFound.setShape(validator.getShape())) {
+            applyResult(fail(FormationResult.FAIL));
+            return null;
+        }
+        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        StructureSnapshot snapshot = validator.takeSnapshot(chunkMap);
+        if (snapshot == null) {
+            //The validator doesn't support snapshots or the structure isn't fully loaded, just validate it directly
+            applyResult(finishStructure(validator, structureFound, validator.validate(this, chunkMap), chunkMap));
+            return null;
+        }
+        return new PendingFormation(validator, structureFound, snapshot, WorkerPool.MULTIBLOCK.supply(() -> validator.validate(this, new Long2ObjectOpenHashMap<>())));
+    }
+
+    private FormationResult applyResult(StructureResult result) {
         T structureFound = result.structureFound;
 
         if (structureFound != null && structureFound.locations.contains(pointer.getTilePos())) {
@@ -171,6 +224,66 @@ public class FormationProtocol<T extends MultiblockData> {
         }
     }
 
+    public class PendingFormation {
+
+        private final IStructureValidator<T> validator;
+        private final T structureFound;
+        private final StructureSnapshot snapshot;
+        private final CompletableFuture<FormationResult> validation;
+        private final long deadline;
+
+        private PendingFormation(IStructureValidator<T> validator, T structureFound, StructureSnapshot snapshot, CompletableFuture<FormationResult> validation) {
+            this.validator = validator;
+            this.structureFound = structureFound;
+            this.snapshot = snapshot;
+            this.validation = validation;
+            this.deadline = pointer.getTileWorld().getGameTime() + MAX_PENDING_TICKS;
+        }
+
+        public boolean isDone() {
+            return validation.isDone();
+        }
+
+        /**
+         * @return {@code true} if the worker has been validating for too long, and the structure should be validated on the main thread instead.
+         */
+        public boolean isExpired(long gameTime) {
+            return gameTime > deadline;
+        }
+
+        /**
+         * Stops waiting for the validation. If the worker didn't start validating yet it will skip it, otherwise the result gets discarded once it is done.
+         */
+        public void cancel() {
+            //Note: We don't release the snapshot here as the worker may still be validating against it, it gets dropped along with the validator
+            validation.cancel(false);
+        }
+
+        /**
+         * Finishes forming the structure on the main thread. If the blocks changed since the snapshot was taken, or validating the snapshot failed, the structure gets
+         * validated again directly instead.
+         */
+        public FormationResult commit() {
+            FormationResult result;
+            try {
+                result = validation.join();
+            } catch (CompletionException | CancellationException e) {
+                validator.releaseSnapshot();
+                Mekanism.logger.error("Failed to validate multiblock at {}, retrying on the main thread.", pointer.getTilePos(), e);
+                return pointer.createFormationProtocol().doUpdate();
+            }
+            if (!snapshot.isCurrent(pointer.getTileWorld())) {
+                validator.releaseSnapshot();
+                return pointer.createFormationProtocol().doUpdate();
+            }
+            if (result.isFormed()) {
+                validator.onSnapshotValidated(FormationProtocol.this);
+            }
+            validator.releaseSnapshot();
+            return applyResult(finishStructure(validator, structureFound, result, new Long2ObjectOpenHashMap<>()));
+        }
+    }
+
     private StructureResult fail(FormationResult result) {
         return new StructureResult(result, null, null);
     }
@@ -2,6 +2,7 @@ package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Set;
+import javax.annotation.Nullable;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
 import net.minecraft.util.math.BlockPos;
@@ -16,6 +17,27 @@ public interface IStructureValidator<T extends MultiblockData> {
 
     FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<IChunk> chunkMap);
 
+    /**
+     * Copies everything {@link #validate(FormationProtocol, Long2ObjectMap)} reads from the world, and makes it validate against the copy until {@link
+     * #releaseSnapshot()} is called. This allows validating on a worker thread, so validation must not modify anything outside of the given context while using a
+     * snapshot.
+     *
+     * @return The snapshot, or {@code null} if this validator can't validate against snapshots or the structure is not fully loaded.
+     */
+    @Nullable
+    default StructureSnapshot takeSnapshot(Long2ObjectMap<IChunk> chunkMap) {
+        return null;
+    }
+
+    /**
+     * Called on the main thread when the snapshot was validated successfully and still matches the world, before the snapshot gets released.
+     */
+    default void onSnapshotValidated(FormationProtocol<T> ctx) {
+    }
+
+    default void releaseSnapshot() {
+    }
+
     FormationResult postcheck(T structure, Set<BlockPos> innerNodes, Long2ObjectMap<IChunk> chunkMap);
 
     IShape getShape();
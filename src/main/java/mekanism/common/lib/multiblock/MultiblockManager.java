@@ -1,5 +1,6 @@
 package mekanism.common.lib.multiblock;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 
@@ -10,14 +11,18 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.tile.prefab.TileEntityMultiblock;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 public class MultiblockManager<T extends MultiblockData> {
 
     private static final Set<MultiblockManager<?>> managers = new ObjectOpenHashSet<>();
+    private static final int MAX_VALIDATED_BOUNDS = 32;
 
     private final String name;
     private final String nameLower;
@@ -29,6 +34,10 @@ public class MultiblockManager<T extends MultiblockData> {
      * A map containing references to all multiblock inventory caches.
      */
     public final Map<UUID, CacheWrapper> inventories = new Object2ObjectOpenHashMap<>();
+    /**
+     * The most recently validated bounds, in order of use.
+     */
+    private final Object2ObjectLinkedOpenHashMap<VoxelCuboid, ValidatedBounds<T>> validatedBounds = new Object2ObjectLinkedOpenHashMap<>();
 
     public MultiblockManager(String name, Supplier<MultiblockCache<T>> cacheSupplier, Supplier<IStructureValidator<T>> validatorSupplier) {
         this.name = name;
@@ -69,6 +78,31 @@ public class MultiblockManager<T extends MultiblockData> {
     public static void reset() {
         for (MultiblockManager<?> manager : managers) {
             manager.inventories.clear();
+            manager.validatedBounds.clear();
+        }
+    }
+
+    @Nullable
+    ValidatedBounds<T> getValidatedBounds(World world, VoxelCuboid cuboid) {
+        ValidatedBounds<T> bounds = validatedBounds.getAndMoveToLast(cuboid);
+        return bounds == null || bounds.dimension != world.dimension() ? null : bounds;
+    }
+
+    void addValidatedBounds(ValidatedBounds<T> bounds) {
+        validatedBounds.putAndMoveToLast(bounds.cuboid, bounds);
+        if (validatedBounds.size() > MAX_VALIDATED_BOUNDS) {
+            validatedBounds.removeFirst();
+        }
+    }
+
+    /**
+     * Forgets the validated bounds that are in the given chunk, as their multiblocks will have to be fully validated again once the chunk gets loaded again anyways.
+     */
+    public static void onChunkUnload(RegistryKey<World> dimension, ChunkPos chunk) {
+        for (MultiblockManager<?> manager : managers) {
+            if (!manager.validatedBounds.isEmpty()) {
+                manager.validatedBounds.values().removeIf(bounds -> bounds.isInChunk(dimension, chunk));
+            }
         }
     }
 
@@ -11,6 +11,7 @@ import java.util.NavigableMap;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.ToIntFunction;
+import javax.annotation.Nullable;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
@@ -35,6 +36,8 @@ public class Structure {
 
     private long updateTimestamp;
     private boolean didUpdate;
+    @Nullable
+    private FormationProtocol<?>.PendingFormation pendingFormation;
 
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
@@ -85,6 +88,10 @@ public class Structure {
         return nodes.get(pos);
     }
 
+    Map<BlockPos, IMultiblockBase> getNodes() {
+        return nodes;
+    }
+
     public NavigableMap<Integer, VoxelPlane> getMinorAxisMap(Axis axis) {
         return minorPlaneMap.computeIfAbsent(axis, k -> new TreeMap<>(Integer::compare));
     }
@@ -96,6 +103,8 @@ public class Structure {
     public void markForUpdate(World world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        //Anything that is still being validated is now out of date
+        cancelPendingFormation();
         if (invalidate) {
             invalidate(world);
         } else {
@@ -106,14 +115,39 @@ public class Structure {
     public <TILE extends TileEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            startUpdate(tile);
+        } else if (pendingFormation != null) {
+            if (pendingFormation.isDone()) {
+                FormationProtocol<?>.PendingFormation pending = pendingFormation;
+                pendingFormation = null;
+                if (getController() != null && multiblockData == null) {
+                    pending.commit();
+                }
+            } else if (pendingFormation.isExpired(tile.getLevel().getGameTime())) {
+                //The worker is taking too long (or lost the job), so stop waiting for it and validate on the main thread
+                runUpdate(tile);
+            }
         }
         if (tryValidate && !isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
         }
     }
 
+    /**
+     * Like {@link #runUpdate(TileEntity)} except that the bounds of the structure get validated on a worker thread when possible, in which case the structure gets formed
+     * on a later tick.
+     */
+    private <TILE extends TileEntity & IMultiblockBase> void startUpdate(TILE tile) {
+        if (getController() != null && multiblockData == null) {
+            pendingFormation = getController().createFormationProtocol().startUpdate();
+        } else {
+            removeMultiblock(tile.getLevel());
+        }
+    }
+
     public <TILE extends TileEntity & IMultiblockBase> FormationResult runUpdate(TILE tile) {
+        //We are validating right now, so we no longer need the result of any pending validation
+        cancelPendingFormation();
         if (getController() != null && multiblockData == null) {
             return getController().createFormationProtocol().doUpdate();
         }
@@ -196,10 +230,19 @@ public class Structure {
     }
 
     public void invalidate(World world) {
+        //Note: This also happens when the chunks of the structure unload, so make sure we don't keep waiting for it to be validated
+        cancelPendingFormation();
         removeMultiblock(world);
         valid = false;
     }
 
+    private void cancelPendingFormation() {
+        if (pendingFormation != null) {
+            pendingFormation.cancel();
+            pendingFormation = null;
+        }
+    }
+
     public void removeMultiblock(World world) {
         if (multiblockData != null) {
             multiblockData.remove(world);
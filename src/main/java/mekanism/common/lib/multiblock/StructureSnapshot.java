@@ -0,0 +1,350 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BitArray;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.palette.IPalette;
+import net.minecraft.util.palette.PalettedContainer;
+import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.IChunk;
+
+/**
+ * Copy of the chunk sections and structure nodes inside the bounds of a multiblock, taken on the main thread so that the bounds can be validated on a worker thread.
+ * Only the raw storage and palette of each section get copied, the block states are read from them on the worker thread. Positions outside the bounds read as air.
+ *
+ * @apiNote Tiles are not part of the snapshot, so validation should only check the nodes of the structure using {@link #getNode(BlockPos)}.
+ */
+public class StructureSnapshot implements IBlockReader {
+
+    /**
+     * Containers that need more bits than this use the global palette instead of one of their own.
+     */
+    private static final int MAX_LOCAL_PALETTE_BITS = 8;
+
+    private final BlockPos min;
+    private final int sizeX, sizeY, sizeZ;
+    private final int minChunkX, minSectionY, minChunkZ;
+    private final int chunksX, sectionsY, chunksZ;
+    private final SectionSnapshot[] sections;
+    private final Long2ObjectMap<IMultiblockBase> nodes;
+    private final LongSet nodePositions;
+
+    private StructureSnapshot(BlockPos min, BlockPos max) {
+        this.min = min;
+        sizeX = max.getX() - min.getX() + 1;
+        sizeY = max.getY() - min.getY() + 1;
+        sizeZ = max.getZ() - min.getZ() + 1;
+        minChunkX = min.getX() >> 4;
+        minSectionY = min.getY() >> 4;
+        minChunkZ = min.getZ() >> 4;
+        chunksX = (max.getX() >> 4) - minChunkX + 1;
+        sectionsY = (max.getY() >> 4) - minSectionY + 1;
+        chunksZ = (max.getZ() >> 4) - minChunkZ + 1;
+        sections = new SectionSnapshot[chunksX * sectionsY * chunksZ];
+        nodes = new Long2ObjectOpenHashMap<>();
+        nodePositions = nodes.keySet();
+    }
+
+    private StructureSnapshot(StructureSnapshot other) {
+        min = other.min;
+        sizeX = other.sizeX;
+        sizeY = other.sizeY;
+        sizeZ = other.sizeZ;
+        minChunkX = other.minChunkX;
+        minSectionY = other.minSectionY;
+        minChunkZ = other.minChunkZ;
+        chunksX = other.chunksX;
+        sectionsY = other.sectionsY;
+        chunksZ = other.chunksZ;
+        sections = new SectionSnapshot[other.sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = other.sections[i].detach();
+        }
+        nodes = Long2ObjectMaps.emptyMap();
+        nodePositions = new LongOpenHashSet(other.nodePositions);
+    }
+
+    /**
+     * @return A snapshot of the given bounds or {@code null} if any of the positions are not loaded, in which case the structure can't be valid anyways.
+     */
+    @Nullable
+    public static StructureSnapshot create(World world, Long2ObjectMap<IChunk> chunkMap, Structure structure, BlockPos min, BlockPos max) {
+        if (!loadChunks(world, chunkMap, min, max)) {
+            return null;
+        }
+        return create(chunkMap, structure.getNodes(), min, max);
+    }
+
+    /**
+     * @param chunks The chunks the bounds are in, by {@link ChunkPos#asLong(int, int)}.
+     *
+     * @return A snapshot of the given bounds or {@code null} if any of the chunks are missing or the bounds are out of the world.
+     */
+    @Nullable
+    static StructureSnapshot create(Long2ObjectMap<IChunk> chunks, Map<BlockPos, IMultiblockBase> nodes, BlockPos min, BlockPos max) {
+        StructureSnapshot snapshot = new StructureSnapshot(min, max);
+        int index = 0;
+        for (int chunkX = snapshot.minChunkX; chunkX <= max.getX() >> 4; chunkX++) {
+            for (int sectionY = snapshot.minSectionY; sectionY <= max.getY() >> 4; sectionY++) {
+                for (int chunkZ = snapshot.minChunkZ; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                    IChunk chunk = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (chunk == null) {
+                        return null;
+                    }
+                    ChunkSection[] chunkSections = chunk.getSections();
+                    if (sectionY < 0 || sectionY >= chunkSections.length) {
+                        return null;
+                    }
+                    snapshot.sections[index++] = new SectionSnapshot(chunkSections[sectionY]);
+                }
+            }
+        }
+        for (Map.Entry<BlockPos, IMultiblockBase> entry : nodes.entrySet()) {
+            BlockPos pos = entry.getKey();
+            if (snapshot.isInBounds(pos)) {
+                snapshot.nodes.put(pos.asLong(), entry.getValue());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Gets the chunks the bounds are in without loading them.
+     *
+     * @return {@code false} if any of them are not loaded.
+     */
+    private static boolean loadChunks(World world, Long2ObjectMap<IChunk> chunkMap, BlockPos min, BlockPos max) {
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                if (!chunkMap.containsKey(chunkKey)) {
+                    IChunk chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                    if (chunk == null) {
+                        return false;
+                    }
+                    chunkMap.put(chunkKey, chunk);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies this snapshot without keeping any references to the world, so that it can be kept around after the chunks it was taken of get unloaded. Only the block
+     * states and the positions of the nodes are kept, so the copy can only be used to {@link #getChanges(StructureSnapshot) find the changes} of a newer snapshot.
+     */
+    StructureSnapshot detach() {
+        return new StructureSnapshot(this);
+    }
+
+    /**
+     * @return {@code true} if none of the sections or nodes in the bounds have changed since this snapshot was taken.
+     *
+     * @apiNote Only valid for snapshots that have not been {@link #detach() detached}.
+     */
+    public boolean isCurrent(World world) {
+        Long2ObjectMap<IChunk> chunkMap = new Long2ObjectOpenHashMap<>();
+        return loadChunks(world, chunkMap, min, min.offset(sizeX - 1, sizeY - 1, sizeZ - 1)) && isCurrent(chunkMap);
+    }
+
+    /**
+     * @param chunks The chunks the bounds are in, by {@link ChunkPos#asLong(int, int)}.
+     */
+    boolean isCurrent(Long2ObjectMap<IChunk> chunks) {
+        int index = 0;
+        for (int chunkX = minChunkX; chunkX < minChunkX + chunksX; chunkX++) {
+            for (int sectionY = minSectionY; sectionY < minSectionY + sectionsY; sectionY++) {
+                for (int chunkZ = minChunkZ; chunkZ < minChunkZ + chunksZ; chunkZ++) {
+                    IChunk chunk = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (chunk == null || !sections[index++].isCurrent(chunk.getSections()[sectionY])) {
+                        return false;
+                    }
+                }
+            }
+        }
+        for (IMultiblockBase node : nodes.values()) {
+            if (((TileEntity) node).isRemoved()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the positions at which this snapshot differs from an older snapshot of the same bounds.
+     */
+    Set<BlockPos> getChanges(StructureSnapshot older) {
+        Set<BlockPos> changes = new ObjectOpenHashSet<>();
+        //Only compare the positions of sections that changed at all
+        boolean[] sectionChanged = new boolean[sections.length];
+        for (int i = 0; i < sections.length; i++) {
+            sectionChanged[i] = !sections[i].matches(older.sections[i]);
+        }
+        BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+        for (int x = 0; x < sizeX; x++) {
+            for (int y = 0; y < sizeY; y++) {
+                for (int z = 0; z < sizeZ; z++) {
+                    mutablePos.set(min.getX() + x, min.getY() + y, min.getZ() + z);
+                    int sectionIndex = getSectionIndex(mutablePos);
+                    if (sectionChanged[sectionIndex] && sections[sectionIndex].get(mutablePos) != older.sections[sectionIndex].get(mutablePos)) {
+                        changes.add(mutablePos.immutable());
+                    }
+                }
+            }
+        }
+        //Note: Older snapshots may be detached, so we only compare where the nodes are. A node that got replaced without its block changing validates the same anyways
+        for (long pos : nodePositions) {
+            if (!older.nodePositions.contains(pos)) {
+                changes.add(BlockPos.of(pos));
+            }
+        }
+        for (long pos : older.nodePositions) {
+            if (!nodePositions.contains(pos)) {
+                changes.add(BlockPos.of(pos));
+            }
+        }
+        return changes;
+    }
+
+    private boolean isInBounds(BlockPos pos) {
+        int x = pos.getX() - min.getX(), y = pos.getY() - min.getY(), z = pos.getZ() - min.getZ();
+        return x >= 0 && y >= 0 && z >= 0 && x < sizeX && y < sizeY && z < sizeZ;
+    }
+
+    private int getSectionIndex(BlockPos pos) {
+        return (((pos.getX() >> 4) - minChunkX) * sectionsY + (pos.getY() >> 4) - minSectionY) * chunksZ + (pos.getZ() >> 4) - minChunkZ;
+    }
+
+    /**
+     * @return The node of the structure at the given position at the time of the snapshot, or {@code null} if there was none.
+     */
+    @Nullable
+    public IMultiblockBase getNode(BlockPos pos) {
+        return nodes.get(pos.asLong());
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getBlockEntity(@Nonnull BlockPos pos) {
+        return null;
+    }
+
+    @Nonnull
+    @Override
+    public BlockState getBlockState(@Nonnull BlockPos pos) {
+        return isInBounds(pos) ? sections[getSectionIndex(pos)].get(pos) : Blocks.AIR.defaultBlockState();
+    }
+
+    @Nonnull
+    @Override
+    public FluidState getFluidState(@Nonnull BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    /**
+     * Copy of the raw storage of a chunk section. Local palettes get copied as they may grow while we read them, the global palette never changes.
+     */
+    private static class SectionSnapshot {
+
+        //The section and palette in the world, so that we can tell if they got replaced. Detached snapshots only keep the global palette
+        @Nullable
+        private final ChunkSection section;
+        @Nullable
+        private final IPalette<BlockState> palette;
+        @Nullable
+        private final BlockState[] localPalette;
+        @Nullable
+        private final BitArray storage;
+
+        private SectionSnapshot(@Nullable ChunkSection section) {
+            this.section = section;
+            if (section == null) {
+                palette = null;
+                localPalette = null;
+                storage = null;
+            } else {
+                PalettedContainer<BlockState> container = section.getStates();
+                palette = container.palette;
+                if (container.bits <= MAX_LOCAL_PALETTE_BITS) {
+                    localPalette = new BlockState[1 << container.bits];
+                    for (int id = 0; id < localPalette.length; id++) {
+                        localPalette[id] = palette.valueFor(id);
+                    }
+                } else {
+                    localPalette = null;
+                }
+                storage = new BitArray(container.bits, container.storage.getSize(), container.storage.getRaw().clone());
+            }
+        }
+
+        private SectionSnapshot(@Nullable IPalette<BlockState> palette, @Nullable BlockState[] localPalette, @Nullable BitArray storage) {
+            this.section = null;
+            this.palette = palette;
+            this.localPalette = localPalette;
+            this.storage = storage;
+        }
+
+        /**
+         * @return A copy of this snapshot that doesn't reference the section or its local palette, as the local palette references the section's storage.
+         */
+        private SectionSnapshot detach() {
+            return new SectionSnapshot(localPalette == null ? palette : null, localPalette, storage);
+        }
+
+        private BlockState get(BlockPos pos) {
+            if (storage == null) {
+                //Sections that don't exist are all air
+                return Blocks.AIR.defaultBlockState();
+            }
+            //Note: This is the same index that the paletted container of the section uses
+            int id = storage.get((pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | pos.getX() & 15);
+            BlockState state = localPalette == null ? palette.valueFor(id) : localPalette[id];
+            return state == null ? Blocks.AIR.defaultBlockState() : state;
+        }
+
+        /**
+         * @return {@code true} if the given section of the world is still the same as it was when this snapshot was taken. This is checked by comparing the raw
+         * storage of the section, which is a lot cheaper than comparing every block state.
+         */
+        private boolean isCurrent(@Nullable ChunkSection current) {
+            if (current != section) {
+                return false;
+            } else if (current == null) {
+                return storage == null;
+            }
+            PalettedContainer<BlockState> container = current.getStates();
+            //Note: Palettes only ever have states added to them, so as long as it is the same palette the ids still refer to the same states
+            return container.palette == palette && Arrays.equals(container.storage.getRaw(), storage.getRaw());
+        }
+
+        /**
+         * @return {@code true} if the older snapshot has the same block states as this snapshot.
+         */
+        private boolean matches(SectionSnapshot older) {
+            if (storage == null || older.storage == null) {
+                return storage == older.storage;
+            }
+            //Compare the states the ids refer to rather than the palettes, as detached snapshots don't keep the local palette of the section. Containers
+            // using the global palette have the same number of bits, and local palettes have one state per possible id, so equal arrays have equal bits
+            return Arrays.equals(localPalette, older.localPalette) && Arrays.equals(storage.getRaw(), older.storage.getRaw());
+        }
+    }
+}
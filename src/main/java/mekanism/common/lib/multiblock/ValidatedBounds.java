@@ -0,0 +1,58 @@
+package mekanism.common.lib.multiblock;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.lib.multiblock.IValveHandler.ValveData;
+import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/**
+ * What was found when the bounds of a cuboid multiblock were last validated successfully, along with the snapshot they were validated against. This allows validating
+ * the same bounds again to only recheck the positions that changed since. Only positions are kept and the snapshot is detached, so that nothing in here keeps the
+ * tiles or chunks of the world loaded.
+ */
+class ValidatedBounds<T extends MultiblockData> {
+
+    final RegistryKey<World> dimension;
+    final VoxelCuboid cuboid;
+    final StructureSnapshot snapshot;
+    final Set<BlockPos> locations;
+    final Set<BlockPos> innerNodes;
+    //Note: We only store the position and side of the valves as valve data also keeps track of whether the valve is active
+    final Map<BlockPos, Direction> valves = new Object2ObjectOpenHashMap<>();
+    final List<BlockPos> multiblocksFound;
+
+    ValidatedBounds(RegistryKey<World> dimension, VoxelCuboid cuboid, StructureSnapshot snapshot, FormationProtocol<T> ctx) {
+        this.dimension = dimension;
+        this.cuboid = cuboid;
+        this.snapshot = snapshot.detach();
+        locations = new ObjectOpenHashSet<>(ctx.locations);
+        innerNodes = new ObjectOpenHashSet<>(ctx.innerNodes);
+        for (ValveData valve : ctx.valves) {
+            valves.put(valve.location, valve.side);
+        }
+        multiblocksFound = new ArrayList<>(ctx.multiblocksFound.size());
+        for (IMultiblock<T> multiblock : ctx.multiblocksFound) {
+            multiblocksFound.add(multiblock.getTilePos());
+        }
+    }
+
+    /**
+     * @return {@code true} if these bounds are in the given chunk.
+     */
+    boolean isInChunk(RegistryKey<World> dimension, ChunkPos chunk) {
+        if (this.dimension != dimension) {
+            return false;
+        }
+        BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
+        return chunk.x >= min.getX() >> 4 && chunk.x <= max.getX() >> 4 && chunk.z >= min.getZ() >> 4 && chunk.z <= max.getZ() >> 4;
+    }
+}
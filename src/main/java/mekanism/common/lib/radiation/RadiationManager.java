@@ -3,6 +3,9 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -10,7 +13,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
 import java.util.function.IntSupplier;
 import javax.annotation.Nonnull;
@@ -50,9 +52,11 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.DamageSource;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.DimensionSavedDataManager;
 import net.minecraft.world.storage.WorldSavedData;
@@ -103,6 +107,10 @@ public class RadiationManager implements IRadiationManager {
     private boolean loaded;
 
     private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable = HashBasedTable.create();
+    /**
+     * Radiation sources indexed by dimension and packed chunk position, so that looking up the sources near an entity doesn't have to allocate any chunk objects.
+     */
+    private final Map<RegistryKey<World>, Long2ObjectMap<List<RadiationSource>>> sourcesByChunk = new Object2ObjectOpenHashMap<>();
     //TODO - 10.1: Re-evaluate the fact this doesn't seem to be persisted between saving and opening
     // this may not fully matter due to a meltdown only lasting 5 seconds, but may be something we care about
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
@@ -141,40 +149,95 @@ public class RadiationManager implements IRadiationManager {
     @Override
     public void removeRadiationSources(Chunk3D chunk) {
         radiationTable.row(chunk).clear();
+        Long2ObjectMap<List<RadiationSource>> chunks = sourcesByChunk.get(chunk.dimension);
+        if (chunks != null) {
+            chunks.remove(chunk.toLong());
+        }
     }
 
     @Override
     public void removeRadiationSource(Coord4D coord) {
-        radiationTable.remove(new Chunk3D(coord), coord);
+        RadiationSource source = radiationTable.remove(new Chunk3D(coord), coord);
+        if (source != null) {
+            removeFromIndex(source);
+        }
     }
 
     @Override
     public double getRadiationLevel(Coord4D coord) {
-        Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
         double level = BASELINE;
-        for (Chunk3D chunk : checkChunks) {
-            Map<Coord4D, RadiationSource> row = radiationTable.row(chunk);
-            if (row != null) {
-                for (Map.Entry<Coord4D, RadiationSource> entry : row.entrySet()) {
-                    // we only compute exposure when within the MAX_RANGE bounds
-                    if (entry.getKey().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                        level += computeExposure(coord, entry.getValue());
-                    }
+        Long2ObjectMap<List<RadiationSource>> chunks = sourcesByChunk.get(coord.dimension);
+        if (chunks == null || chunks.isEmpty()) {
+            return level;
+        }
+        int chunkRadius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        int chunkX = coord.getX() >> 4;
+        int chunkZ = coord.getZ() >> 4;
+        int maxRange = MAX_RANGE.getAsInt();
+        long maxRangeSq = (long) maxRange * maxRange;
+        if (chunkRadius == 1) {
+            //Note: A radius of one only checks the chunk we are in, see Chunk3D#expand
+            level += computeExposure(coord, chunks.get(ChunkPos.asLong(chunkX, chunkZ)), maxRangeSq);
+        } else if (chunks.size() < (2 * chunkRadius + 1) * (2 * chunkRadius + 1)) {
+            //If there are fewer chunks with sources than chunks in range, just go over the ones that have sources
+            for (Long2ObjectMap.Entry<List<RadiationSource>> entry : Long2ObjectMaps.fastIterable(chunks)) {
+                long chunk = entry.getLongKey();
+                if (Math.abs(ChunkPos.getX(chunk) - chunkX) <= chunkRadius && Math.abs(ChunkPos.getZ(chunk) - chunkZ) <= chunkRadius) {
+                    level += computeExposure(coord, entry.getValue(), maxRangeSq);
+                }
+            }
+        } else {
+            for (int x = chunkX - chunkRadius; x <= chunkX + chunkRadius; x++) {
+                for (int z = chunkZ - chunkRadius; z <= chunkZ + chunkRadius; z++) {
+                    level += computeExposure(coord, chunks.get(ChunkPos.asLong(x, z)), maxRangeSq);
                 }
             }
         }
         return level;
     }
 
+    private double computeExposure(Coord4D coord, @Nullable List<RadiationSource> sources, long maxRangeSq) {
+        double exposure = 0;
+        if (sources != null) {
+            for (RadiationSource source : sources) {
+                // we only compute exposure when within the MAX_RANGE bounds
+                double distanceSq = source.getPos().distanceToSquared(coord);
+                if (distanceSq <= maxRangeSq) {
+                    exposure += source.getMagnitude() / Math.max(1, distanceSq);
+                }
+            }
+        }
+        return exposure;
+    }
+
+    private void addSource(RadiationSource source) {
+        Coord4D pos = source.getPos();
+        radiationTable.put(new Chunk3D(pos), pos, source);
+        sourcesByChunk.computeIfAbsent(pos.dimension, dimension -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), chunk -> new ArrayList<>())
+              .add(source);
+    }
+
+    private void removeFromIndex(RadiationSource source) {
+        Coord4D pos = source.getPos();
+        Long2ObjectMap<List<RadiationSource>> chunks = sourcesByChunk.get(pos.dimension);
+        if (chunks != null) {
+            long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            List<RadiationSource> sources = chunks.get(chunk);
+            if (sources != null && sources.remove(source) && sources.isEmpty()) {
+                chunks.remove(chunk);
+            }
+        }
+    }
+
     @Override
     public void radiate(Coord4D coord, double magnitude) {
         if (!isRadiationEnabled()) {
             return;
         }
-        Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(coord));
-        RadiationSource src = radiationSourceMap.get(coord);
+        RadiationSource src = radiationTable.get(new Chunk3D(coord), coord);
         if (src == null) {
-            radiationSourceMap.put(coord, new RadiationSource(coord, magnitude));
+            addSource(new RadiationSource(coord, magnitude));
         } else {
             src.radiate(magnitude);
         }
@@ -224,10 +287,7 @@ public class RadiationManager implements IRadiationManager {
 
     public void clearSources() {
         radiationTable.clear();
-    }
-
-    private double computeExposure(Coord4D coord, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, coord.distanceToSquared(source.getPos()));
+        sourcesByChunk.clear();
     }
 
     private double getRadiationResistance(LivingEntity entity) {
@@ -323,6 +383,7 @@ public class RadiationManager implements IRadiationManager {
                 if (source.decay()) {
                     // remove if source gets too low
                     iter.remove();
+                    removeFromIndex(source);
                 }
 
                 dataHandler.setDirty();
@@ -461,7 +522,7 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (loadedSources != null && MekanismAPI.getRadiationManager().isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.addSource(source);
                 }
             }
         }
@@ -12,11 +12,17 @@ import mekanism.api.Range3D;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.eventbus.api.Event;
 
 public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBufferedNetwork<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>, BUFFER,
       TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER> {
 
+    /**
+     * Number of steps the scale of a network is split into when syncing it to the client.
+     */
+    public static final int SCALE_STEPS = 255;
+
     protected final LongSet chunks = new LongOpenHashSet();
     @Nullable
     protected Range3D packetRange;
@@ -36,13 +42,23 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
 
     protected abstract float computeContentScale();
 
+    /**
+     * Converts a scale to the number of {@link #SCALE_STEPS} it is filled to.
+     */
+    public static int quantizeScale(float scale) {
+        return Math.round(MathHelper.clamp(scale, 0, 1) * SCALE_STEPS);
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
         float scale = computeContentScale();
         if (scale != currentScale) {
+            //Only sync the scale to the client if the change is large enough to be visible rather than on every slight fluctuation
+            if (quantizeScale(scale) != quantizeScale(currentScale)) {
+                needsUpdate = true;
+            }
             currentScale = scale;
-            needsUpdate = true;
         }
     }
 
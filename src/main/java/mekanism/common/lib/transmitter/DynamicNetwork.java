@@ -20,12 +20,15 @@ import net.minecraftforge.fml.common.thread.EffectiveSide;
 public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
       TRANSMITTER extends Transmitter<ACCEPTOR, NETWORK, TRANSMITTER>> implements INetworkDataHandler, IHasTextComponent {
 
+    private static int nextSessionId = 1;
+
     protected final Set<TRANSMITTER> transmitters = new ObjectOpenHashSet<>();
     protected final Set<TRANSMITTER> transmittersToAdd = new ObjectOpenHashSet<>();
     protected final NetworkAcceptorCache<ACCEPTOR> acceptorCache = new NetworkAcceptorCache<>();
     @Nullable
     protected World world;
     private final UUID uuid;
+    private int sessionId;
 
     protected DynamicNetwork() {
         this(UUID.randomUUID());
@@ -39,6 +42,26 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return uuid;
     }
 
+    /**
+     * Gets a small id for this network that is used instead of the UUID to refer to the network in packets. The ids are not saved, so a network may get a different id after a restart.
+     *
+     * @apiNote Only call on the server, the client gets the id of its networks from the transmitters' update tags.
+     */
+    public int getSessionId() {
+        if (sessionId == 0) {
+            sessionId = nextSessionId++;
+        }
+        return sessionId;
+    }
+
+    public boolean hasSessionId() {
+        return sessionId != 0;
+    }
+
+    public void setSessionId(int sessionId) {
+        this.sessionId = sessionId;
+    }
+
     protected NETWORK getNetwork() {
         return (NETWORK) this;
     }
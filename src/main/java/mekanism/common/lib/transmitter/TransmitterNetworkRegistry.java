@@ -1,9 +1,17 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -13,9 +21,11 @@ import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.BufferedTransmitter;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.network.to_client.PacketTransmitterUpdate.TransmitterUpdate;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.util.Direction;
+import net.minecraft.util.RegistryKey;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.world.World;
@@ -29,15 +39,22 @@ public class TransmitterNetworkRegistry {
     private static final TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
     private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
-    private final Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private Set<DynamicNetwork<?, ?, ?>> changingNetworks = new ObjectOpenHashSet<>();
     private final Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
-    private Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
-    private final Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    //Orphans are indexed per dimension by their packed block position so that the path finders don't have to create a Coord4D for every lookup
+    private Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphanTransmitters = new Object2ObjectOpenHashMap<>();
+    private Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
+    private final Int2ObjectMap<DynamicNetwork<?, ?, ?>> clientNetworksBySession = new Int2ObjectOpenHashMap<>();
+    private final TransmitterUpdateBatcher updateBatcher = new TransmitterUpdateBatcher();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
             clientNetworks.put(networkID, network);
+            if (network.hasSessionId()) {
+                clientNetworksBySession.put(network.getSessionId(), network);
+            }
         }
     }
 
@@ -46,12 +63,28 @@ public class TransmitterNetworkRegistry {
         return clientNetworks.get(networkID);
     }
 
+    @Nullable
+    public DynamicNetwork<?, ?, ?> getClientNetwork(int sessionId) {
+        return clientNetworksBySession.get(sessionId);
+    }
+
     public void removeClientNetwork(DynamicNetwork<?, ?, ?> network) {
         clientNetworks.remove(network.getUUID());
+        if (network.hasSessionId() && clientNetworksBySession.get(network.getSessionId()) == network) {
+            clientNetworksBySession.remove(network.getSessionId());
+        }
     }
 
     public void clearClientNetworks() {
         clientNetworks.clear();
+        clientNetworksBySession.clear();
+    }
+
+    /**
+     * Queues an update of how a network renders to be sent to the players near it at the end of the tick.
+     */
+    public void queueTransmitterUpdate(DynamicBufferedNetwork<?, ?, ?, ?> network, TransmitterUpdate update) {
+        updateBatcher.queue(network, update);
     }
 
     public static void initiate() {
@@ -64,9 +97,11 @@ public class TransmitterNetworkRegistry {
     public static void reset() {
         getInstance().networks.clear();
         getInstance().networksToChange.clear();
+        getInstance().changingNetworks.clear();
         getInstance().invalidTransmitters.clear();
         getInstance().orphanTransmitters.clear();
         getInstance().newOrphanTransmitters.clear();
+        getInstance().updateBatcher.clear();
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -74,10 +109,12 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void registerOrphanTransmitter(Transmitter<?, ?, ?> transmitter) {
-        Coord4D coord = transmitter.getTileCoord();
-        Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(coord, transmitter);
+        RegistryKey<World> dimension = transmitter.getTileWorld().dimension();
+        BlockPos pos = transmitter.getTilePos();
+        Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>())
+              .put(pos.asLong(), transmitter);
         if (previous != null && previous != transmitter) {
-            Mekanism.logger.error("Different orphan transmitter was already registered at location! {}", coord);
+            Mekanism.logger.error("Different orphan transmitter was already registered at location! {}", new Coord4D(pos, dimension));
         }
     }
 
@@ -96,6 +133,7 @@ public class TransmitterNetworkRegistry {
     public void removeNetwork(DynamicNetwork<?, ?, ?> network) {
         networks.remove(network);
         networksToChange.remove(network);
+        updateBatcher.remove(network);
     }
 
     @SubscribeEvent
@@ -107,11 +145,15 @@ public class TransmitterNetworkRegistry {
             for (DynamicNetwork<?, ?, ?> net : networks) {
                 net.onUpdate();
             }
+            updateBatcher.sendUpdates();
         }
     }
 
     private void removeInvalidTransmitters() {
-        if (MekanismAPI.debug && !invalidTransmitters.isEmpty()) {
+        if (invalidTransmitters.isEmpty()) {
+            return;
+        }
+        if (MekanismAPI.debug) {
             Mekanism.logger.info("Dealing with {} invalid Transmitters", invalidTransmitters.size());
         }
         for (Transmitter<?, ?, ?> invalid : invalidTransmitters) {
@@ -131,24 +173,33 @@ public class TransmitterNetworkRegistry {
     }
 
     private void assignOrphans() {
-        orphanTransmitters = new Object2ObjectOpenHashMap<>(newOrphanTransmitters);
-        newOrphanTransmitters.clear();
-
-        if (MekanismAPI.debug && !orphanTransmitters.isEmpty()) {
-            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
+        if (newOrphanTransmitters.isEmpty()) {
+            //Nothing to assign, skip swapping the maps
+            return;
+        }
+        //Swap the maps rather than copying them so that we don't allocate a new map every tick. Any orphans that get
+        // registered while we are assigning the current ones will end up in the (now cleared) map and get handled next tick
+        Map<RegistryKey<World>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphans = newOrphanTransmitters;
+        newOrphanTransmitters = orphanTransmitters;
+        orphanTransmitters = orphans;
+
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.values().stream().mapToInt(Map::size).sum());
         }
 
-        for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
-            if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
-                OrphanPathFinder<?, ?, ?> finder;
-                if (orphanTransmitter instanceof BufferedTransmitter) {
-                    finder = new BufferedOrphanPathFinder<>((BufferedTransmitter<?, ?, ?, ?>) orphanTransmitter);
-                } else {
-                    finder = new OrphanPathFinder<>(orphanTransmitter);
+        for (Long2ObjectMap<Transmitter<?, ?, ?>> dimensionOrphans : orphanTransmitters.values()) {
+            for (Transmitter<?, ?, ?> orphanTransmitter : dimensionOrphans.values()) {
+                if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                    OrphanPathFinder<?, ?, ?> finder;
+                    if (orphanTransmitter instanceof BufferedTransmitter) {
+                        finder = new BufferedOrphanPathFinder<>((BufferedTransmitter<?, ?, ?, ?>) orphanTransmitter, dimensionOrphans);
+                    } else {
+                        finder = new OrphanPathFinder<>(orphanTransmitter, dimensionOrphans);
+                    }
+                    DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(finder);
+                    networksToChange.add(network);
+                    network.register();
                 }
-                DynamicNetwork<?, ?, ?> network = getNetworkFromOrphan(finder);
-                networksToChange.add(network);
-                network.register();
             }
         }
 
@@ -176,18 +227,24 @@ public class TransmitterNetworkRegistry {
                 if (MekanismAPI.debug) {
                     Mekanism.logger.info("Merging {} networks with {} new transmitters", finder.networksFound.size(), finder.connectedTransmitters.size());
                 }
-                network = finder.createNetworkByMerging();
+                network = finder.mergeIntoLargestNetwork();
         }
         network.addNewTransmitters(finder.connectedTransmitters);
         return network;
     }
 
     private void commitChanges() {
-        Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>(networksToChange);
-        networksToChange.clear();
+        if (networksToChange.isEmpty()) {
+            return;
+        }
+        //Swap the sets so that networks marked as changed while committing get handled next tick without us having to copy the set
+        Set<DynamicNetwork<?, ?, ?>> networks = networksToChange;
+        networksToChange = changingNetworks;
+        changingNetworks = networks;
         for (DynamicNetwork<?, ?, ?> network : networks) {
             network.commit();
         }
+        networks.clear();
     }
 
     @Override
@@ -209,14 +266,16 @@ public class TransmitterNetworkRegistry {
 
         public final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         public final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        public final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
+        public final LongSet iterated = new LongOpenHashSet();
         private final Deque<BlockPos> queue = new LinkedList<>();
+        private final Long2ObjectMap<Transmitter<?, ?, ?>> orphans;
         public final TRANSMITTER startPoint;
         private final World world;
 
-        protected OrphanPathFinder(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> start) {
+        protected OrphanPathFinder(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> start, Long2ObjectMap<Transmitter<?, ?, ?>> orphans) {
             startPoint = (TRANSMITTER) start;
             world = startPoint.getTileWorld();
+            this.orphans = orphans;
         }
 
         public void start() {
@@ -231,10 +290,9 @@ public class TransmitterNetworkRegistry {
         }
 
         public void iterate(BlockPos from) {
-            if (iterated.add(from)) {
-                Coord4D fromCoord = new Coord4D(from, world);
-                if (orphanTransmitters.containsKey(fromCoord)) {
-                    Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
+            if (iterated.add(from.asLong())) {
+                Transmitter<?, ?, ?> transmitter = orphans.get(from.asLong());
+                if (transmitter != null) {
                     if (transmitter.isValid() && transmitter.isOrphan()) {
                         if (connectedTransmitters.isEmpty() || connectedTransmitters.stream().anyMatch(existing -> existing.isValidTransmitter(transmitter))) {
                             connectedTransmitters.add((TRANSMITTER) transmitter);
@@ -242,7 +300,7 @@ public class TransmitterNetworkRegistry {
                             for (Direction direction : EnumUtils.DIRECTIONS) {
                                 if (!direction.getAxis().isHorizontal() || WorldUtils.isBlockLoaded(world, from.relative(direction))) {
                                     BlockPos directionPos = transmitter.getAdjacentConnectableTransmitterPos(direction);
-                                    if (directionPos != null && !iterated.contains(directionPos)) {
+                                    if (directionPos != null && !iterated.contains(directionPos.asLong())) {
                                         queue.addLast(directionPos);
                                     }
                                 }
@@ -267,17 +325,34 @@ public class TransmitterNetworkRegistry {
             return startPoint.createEmptyNetwork();
         }
 
-        public NETWORK createNetworkByMerging() {
-            //TODO: Should we take one of the existing network's uuids?
-            return startPoint.createNetworkByMerging(networksFound);
+        /**
+         * Merges all the found networks into the largest of them. This means we only have to move the transmitters and acceptors of the smaller networks
+         * instead of copying every transmitter into a brand-new network, and that the transmitters of the largest network keep their network and don't
+         * have to be resent to the client.
+         */
+        public NETWORK mergeIntoLargestNetwork() {
+            NETWORK largest = null;
+            for (NETWORK network : networksFound) {
+                if (largest == null || network.transmittersSize() > largest.transmittersSize()) {
+                    largest = network;
+                }
+            }
+            List<NETWORK> toMerge = new ArrayList<>(networksFound.size() - 1);
+            for (NETWORK network : networksFound) {
+                if (network != largest) {
+                    toMerge.add(network);
+                }
+            }
+            largest.adoptAllAndRegister(toMerge);
+            return largest;
         }
     }
 
     public class BufferedOrphanPathFinder<ACCEPTOR, NETWORK extends DynamicBufferedNetwork<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>, BUFFER,
           TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends OrphanPathFinder<ACCEPTOR, NETWORK, TRANSMITTER> {
 
-        protected BufferedOrphanPathFinder(BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER> start) {
-            super(start);
+        protected BufferedOrphanPathFinder(BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER> start, Long2ObjectMap<Transmitter<?, ?, ?>> orphans) {
+            super(start, orphans);
         }
 
         @Override
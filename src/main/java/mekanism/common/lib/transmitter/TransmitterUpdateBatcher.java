@@ -0,0 +1,180 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import mekanism.api.Range3D;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.to_client.PacketTransmitterUpdate;
+import mekanism.common.network.to_client.PacketTransmitterUpdate.TransmitterUpdate;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.server.ServerLifecycleHooks;
+
+/**
+ * Collects the updates of how transmitter networks render over a tick and sends each player a single packet with the updates for the networks near them. If the updates
+ * for a player don't fit in the configured budget, the ones for the networks closest to the player are sent first and the rest are sent on the following ticks. The
+ * update that has been waiting the longest is always sent, so that networks far from the player still get updated eventually.
+ */
+public class TransmitterUpdateBatcher {
+
+    private final Map<DynamicBufferedNetwork<?, ?, ?, ?>, PendingUpdate> queued = new Object2ObjectOpenHashMap<>();
+    private Map<UUID, Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate>> delayed = new Object2ObjectOpenHashMap<>();
+    private long tick;
+
+    /**
+     * Queues an update for the given network, replacing any update for it that has not been sent yet.
+     */
+    public void queue(DynamicBufferedNetwork<?, ?, ?, ?> network, TransmitterUpdate update) {
+        Range3D range = network.getPacketRange();
+        if (range != null) {
+            queued.put(network, new PendingUpdate(update, range, update.getEstimatedSize()));
+        }
+    }
+
+    /**
+     * Drops any updates for the given network that have not been sent yet, so that we don't hold onto networks that no longer exist.
+     */
+    public void remove(DynamicNetwork<?, ?, ?> network) {
+        queued.remove(network);
+        for (Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> pending : delayed.values()) {
+            pending.remove(network);
+        }
+    }
+
+    public void sendUpdates() {
+        if (queued.isEmpty() && delayed.isEmpty()) {
+            return;
+        }
+        tick++;
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            PlayerList playerList = server.getPlayerList();
+            //Ignore height for partial Cubic chunks support as range comparison gets used ignoring player height normally anyways
+            int radius = playerList.getViewDistance() * 16;
+            int budget = MekanismConfig.general.transmitterUpdateBudget.get();
+            //Only keep delayed updates for players that are still online
+            Map<UUID, Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate>> stillDelayed = new Object2ObjectOpenHashMap<>();
+            for (ServerPlayerEntity player : playerList.getPlayers()) {
+                Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> pending = delayed.get(player.getUUID());
+                if (pending == null) {
+                    pending = new Object2ObjectOpenHashMap<>();
+                }
+                for (Map.Entry<DynamicBufferedNetwork<?, ?, ?, ?>, PendingUpdate> entry : queued.entrySet()) {
+                    if (entry.getValue().isInRange(player, radius)) {
+                        //Keep track of how long the player has been waiting on an update for the network even if we replace the update
+                        DelayedUpdate previous = pending.get(entry.getKey());
+                        pending.put(entry.getKey(), new DelayedUpdate(entry.getValue(), previous == null ? tick : previous.since));
+                    }
+                }
+                if (!pending.isEmpty()) {
+                    Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> remaining = send(player, pending, budget);
+                    if (!remaining.isEmpty()) {
+                        stillDelayed.put(player.getUUID(), remaining);
+                    }
+                }
+            }
+            delayed = stillDelayed;
+        }
+        queued.clear();
+    }
+
+    /**
+     * Sends the player as many of the pending updates as fit in the budget. The update that has been waiting the longest goes first, and then the ones for the networks
+     * closest to the player.
+     *
+     * @return The updates that did not fit.
+     */
+    private Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> send(ServerPlayerEntity player, Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> pending,
+          int budget) {
+        Map<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> remaining = new Object2ObjectOpenHashMap<>();
+        List<TransmitterUpdate> updates = new ArrayList<>();
+        if (pending.size() == 1) {
+            updates.add(pending.values().iterator().next().pending.update);
+        } else {
+            BlockPos playerPosition = player.blockPosition();
+            List<Map.Entry<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate>> sorted = new ArrayList<>(pending.entrySet());
+            sorted.sort(Comparator.comparingLong(entry -> entry.getValue().pending.distanceSquared(playerPosition)));
+            //Always send the oldest update first so that a steady stream of updates for close networks can't starve the far ones. As a network keeps how long
+            // it has been waiting when its update gets replaced, every network ends up being the oldest eventually
+            Map.Entry<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> oldest = null;
+            for (Map.Entry<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> entry : sorted) {
+                if (oldest == null || entry.getValue().since < oldest.getValue().since) {
+                    oldest = entry;
+                }
+            }
+            updates.add(oldest.getValue().pending.update);
+            int size = oldest.getValue().pending.size;
+            for (Map.Entry<DynamicBufferedNetwork<?, ?, ?, ?>, DelayedUpdate> entry : sorted) {
+                if (entry != oldest) {
+                    PendingUpdate pendingUpdate = entry.getValue().pending;
+                    if (size + pendingUpdate.size > budget) {
+                        remaining.put(entry.getKey(), entry.getValue());
+                    } else {
+                        updates.add(pendingUpdate.update);
+                        size += pendingUpdate.size;
+                    }
+                }
+            }
+        }
+        Mekanism.packetHandler.sendTo(new PacketTransmitterUpdate(updates), player);
+        return remaining;
+    }
+
+    public void clear() {
+        queued.clear();
+        delayed.clear();
+        tick = 0;
+    }
+
+    private static class PendingUpdate {
+
+        private final TransmitterUpdate update;
+        private final Range3D range;
+        private final int size;
+
+        private PendingUpdate(TransmitterUpdate update, Range3D range, int size) {
+            this.update = update;
+            this.range = range;
+            this.size = size;
+        }
+
+        private boolean isInRange(ServerPlayerEntity player, int radius) {
+            if (range.dimension == player.getLevel().dimension()) {
+                BlockPos playerPosition = player.blockPosition();
+                int playerX = playerPosition.getX();
+                int playerZ = playerPosition.getZ();
+                //playerX/Z + radius is the max, so to stay in line with how it was before, it has an extra + 1 added to it
+                return playerX + radius + 1.99999 > range.xMin && range.xMax + 0.99999 > playerX - radius &&
+                       playerZ + radius + 1.99999 > range.zMin && range.zMax + 0.99999 > playerZ - radius;
+            }
+            return false;
+        }
+
+        private long distanceSquared(BlockPos pos) {
+            long dx = Math.max(0, Math.max(range.xMin - pos.getX(), pos.getX() - range.xMax));
+            long dz = Math.max(0, Math.max(range.zMin - pos.getZ(), pos.getZ() - range.zMax));
+            return dx * dx + dz * dz;
+        }
+    }
+
+    /**
+     * An update that a specific player is waiting on, and the tick since which they have been waiting on an update for the network.
+     */
+    private static class DelayedUpdate {
+
+        private final PendingUpdate pending;
+        private final long since;
+
+        private DelayedUpdate(PendingUpdate pending, long since) {
+            this.pending = pending;
+            this.since = since;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package mekanism.common.lib.transmitter.acceptor;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
@@ -15,12 +18,22 @@ import net.minecraftforge.common.util.LazyOptional;
 
 public class NetworkAcceptorCache<ACCEPTOR> {
 
-    private final Map<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Acceptors keyed by the packed long ({@link BlockPos#asLong()}) of their position, so that looking them up doesn't require creating a {@link BlockPos}.
+     */
+    private final Long2ObjectMap<Map<Direction, LazyOptional<ACCEPTOR>>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         LazyOptional<ACCEPTOR> acceptor = transmitter.canConnectToAcceptor(side) ? transmitter.getAcceptor(side) : LazyOptional.empty();
-        BlockPos acceptorPos = transmitter.getTilePos().relative(side);
+        updateAcceptor(transmitter.getTilePos().asLong(), side, acceptor);
+    }
+
+    /**
+     * Updates the cached acceptor on the given side of the transmitter at the given packed position.
+     */
+    void updateAcceptor(long transmitterPos, Direction side, LazyOptional<ACCEPTOR> acceptor) {
+        long acceptorPos = BlockPos.offset(transmitterPos, side);
         if (acceptor.isPresent()) {
             cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
         } else if (cachedAcceptors.containsKey(acceptorPos)) {
@@ -35,8 +48,8 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
-        for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
-            BlockPos pos = entry.getKey();
+        for (Long2ObjectMap.Entry<Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.long2ObjectEntrySet()) {
+            long pos = entry.getLongKey();
             if (cachedAcceptors.containsKey(pos)) {
                 Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(pos);
                 entry.getValue().forEach(cached::put);
@@ -69,8 +82,8 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     /**
      * @apiNote Listeners should not be added to these LazyOptionals here as they may not correspond to an actual handler and may not get invalidated.
      */
-    public Set<Map.Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>>> getAcceptorEntrySet() {
-        return cachedAcceptors.entrySet();
+    public ObjectSet<Long2ObjectMap.Entry<Map<Direction, LazyOptional<ACCEPTOR>>>> getAcceptorEntrySet() {
+        return cachedAcceptors.long2ObjectEntrySet();
     }
 
     /**
@@ -86,11 +99,11 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     }
 
     public boolean hasAcceptor(BlockPos acceptorPos) {
-        return cachedAcceptors.containsKey(acceptorPos);
+        return cachedAcceptors.containsKey(acceptorPos.asLong());
     }
 
     public Set<Direction> getAcceptorDirections(BlockPos pos) {
         //TODO: Do this better?
-        return cachedAcceptors.get(pos).keySet();
+        return cachedAcceptors.get(pos.asLong()).keySet();
     }
 }
\ No newline at end of file
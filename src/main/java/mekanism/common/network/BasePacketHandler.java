@@ -1,16 +1,16 @@
 package mekanism.common.network;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
-import mekanism.api.Range3D;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
-import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.server.MinecraftServer;
-import net.minecraft.server.management.PlayerList;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.RegistryKey;
 import net.minecraft.util.ResourceLocation;
@@ -96,6 +96,25 @@ public abstract class BasePacketHandler {
         }
     }
 
+    /**
+     * Send this message to the specified players. Unlike calling {@link #sendTo(Object, ServerPlayerEntity)} for each player, this only encodes the message once.
+     *
+     * @param message - the message to send
+     * @param players - the players to send it to
+     */
+    public <MSG> void sendTo(MSG message, Collection<ServerPlayerEntity> players) {
+        List<NetworkManager> connections = new ArrayList<>(players.size());
+        for (ServerPlayerEntity player : players) {
+            //Validate it is not a fake player, even though none of our code should call this with a fake player
+            if (!(player instanceof FakePlayer)) {
+                connections.add(player.connection.getConnection());
+            }
+        }
+        if (!connections.isEmpty()) {
+            getChannel().send(PacketDistributor.NMLIST.with(() -> connections), message);
+        }
+    }
+
     /**
      * Send this message to everyone connected to the server.
      *
@@ -160,32 +179,4 @@ public abstract class BasePacketHandler {
             getChannel().send(PacketDistributor.TRACKING_CHUNK.with(() -> world.getChunk(pos.getX() >> 4, pos.getZ() >> 4)), message);
         }
     }
-
-    public <MSG> void sendToReceivers(MSG message, DynamicBufferedNetwork<?, ?, ?, ?> network) {
-        //TODO: Figure out why we have a try catch and remove the need for it
-        try {
-            //TODO: Create a method in DynamicNetwork to get all players that are "tracking" the network
-            // Also evaluate moving various network packet things over to using this at that point
-            MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
-            if (server != null) {
-                Range3D range = network.getPacketRange();
-                PlayerList playerList = server.getPlayerList();
-                //Ignore height for partial Cubic chunks support as range comparison gets used ignoring player height normally anyways
-                int radius = playerList.getViewDistance() * 16;
-                for (ServerPlayerEntity player : playerList.getPlayers()) {
-                    if (range.dimension == player.getLevel().dimension()) {
-                        BlockPos playerPosition = player.blockPosition();
-                        int playerX = playerPosition.getX();
-                        int playerZ = playerPosition.getZ();
-                        //playerX/Z + radius is the max, so to stay in line with how it was before, it has an extra + 1 added to it
-                        if (playerX + radius + 1.99999 > range.xMin && range.xMax + 0.99999 > playerX - radius &&
-                            playerZ + radius + 1.99999 > range.zMin && range.zMax + 0.99999 > playerZ - radius) {
-                            sendTo(message, player);
-                        }
-                    }
-                }
-            }
-        } catch (Exception ignored) {
-        }
-    }
 }
\ No newline at end of file
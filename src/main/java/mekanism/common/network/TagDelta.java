@@ -0,0 +1,119 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.common.util.Constants.NBT;
+
+/**
+ * Difference between two compound tags, made up of the entries that were added or changed, the keys that were removed, and the differences of nested compounds that
+ * only changed in part. Applying it to a copy of the older tag gives a tag equal to the newer one.
+ */
+public class TagDelta {
+
+    private final CompoundNBT changed;
+    private final List<String> removed;
+    private final Map<String, TagDelta> nested;
+
+    private TagDelta(CompoundNBT changed, List<String> removed, Map<String, TagDelta> nested) {
+        this.changed = changed;
+        this.removed = removed;
+        this.nested = nested;
+    }
+
+    /**
+     * Calculates the changes needed to turn the old tag into the current tag.
+     */
+    public static TagDelta create(CompoundNBT old, CompoundNBT current) {
+        CompoundNBT changed = new CompoundNBT();
+        List<String> removed = new ArrayList<>();
+        Map<String, TagDelta> nested = new Object2ObjectArrayMap<>();
+        for (String key : current.getAllKeys()) {
+            INBT value = current.get(key);
+            INBT oldValue = old.get(key);
+            if (!Objects.equals(value, oldValue)) {
+                if (value instanceof CompoundNBT && oldValue instanceof CompoundNBT) {
+                    TagDelta delta = create((CompoundNBT) oldValue, (CompoundNBT) value);
+                    if (delta.size() < ((CompoundNBT) value).size()) {
+                        nested.put(key, delta);
+                        continue;
+                    }
+                }
+                changed.put(key, value);
+            }
+        }
+        for (String key : old.getAllKeys()) {
+            if (!current.contains(key)) {
+                removed.add(key);
+            }
+        }
+        return new TagDelta(changed, removed, nested);
+    }
+
+    /**
+     * @return The number of top level entries this delta touches.
+     */
+    public int size() {
+        return changed.size() + removed.size() + nested.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Applies the changes to the given tag in place.
+     */
+    public void apply(CompoundNBT tag) {
+        for (String key : removed) {
+            tag.remove(key);
+        }
+        for (Map.Entry<String, TagDelta> entry : nested.entrySet()) {
+            String key = entry.getKey();
+            if (!tag.contains(key, NBT.TAG_COMPOUND)) {
+                tag.put(key, new CompoundNBT());
+            }
+            entry.getValue().apply(tag.getCompound(key));
+        }
+        for (String key : changed.getAllKeys()) {
+            //Note: We don't need to copy the value as the delta is not used again after it has been applied
+            tag.put(key, Objects.requireNonNull(changed.get(key)));
+        }
+    }
+
+    public void write(PacketBuffer buffer) {
+        buffer.writeNbt(changed.isEmpty() ? null : changed);
+        buffer.writeVarInt(removed.size());
+        for (String key : removed) {
+            buffer.writeUtf(key);
+        }
+        buffer.writeVarInt(nested.size());
+        for (Map.Entry<String, TagDelta> entry : nested.entrySet()) {
+            buffer.writeUtf(entry.getKey());
+            entry.getValue().write(buffer);
+        }
+    }
+
+    public static TagDelta read(PacketBuffer buffer) {
+        CompoundNBT changed = buffer.readNbt();
+        if (changed == null) {
+            changed = new CompoundNBT();
+        }
+        int removedCount = buffer.readVarInt();
+        List<String> removed = new ArrayList<>(removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            removed.add(BasePacketHandler.readString(buffer));
+        }
+        int nestedCount = buffer.readVarInt();
+        Map<String, TagDelta> nested = new Object2ObjectArrayMap<>(nestedCount);
+        for (int i = 0; i < nestedCount; i++) {
+            nested.put(BasePacketHandler.readString(buffer), read(buffer));
+        }
+        return new TagDelta(changed, removed, nested);
+    }
+}
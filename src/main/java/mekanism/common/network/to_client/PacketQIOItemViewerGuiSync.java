@@ -3,7 +3,7 @@ package mekanism.common.network.to_client;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.lib.inventory.HashedItem.TypeIdAwareHashedItem;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.entity.player.ClientPlayerEntity;
@@ -13,27 +13,34 @@ import net.minecraftforge.fml.network.NetworkEvent;
 public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    private final Object2LongMap<TypeIdAwareHashedItem> itemMap;
     private final long countCapacity;
     private final int typeCapacity;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
         this.type = type;
         this.itemMap = itemMap;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
         return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    /**
+     * Part of a batch that is too large to send in a single packet, the client holds onto the parts until the final {@link #batch(Object2LongMap, long, int)} arrives.
+     */
+    public static PacketQIOItemViewerGuiSync batchPart(Object2LongMap<TypeIdAwareHashedItem> itemMap) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH_PART, itemMap, 0, 0);
+    }
+
+    public static PacketQIOItemViewerGuiSync update(Object2LongMap<TypeIdAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
         return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, null, 0, 0);
     }
 
     @Override
@@ -42,6 +49,9 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         if (player != null && player.containerMenu instanceof QIOItemViewerContainer) {
             QIOItemViewerContainer container = (QIOItemViewerContainer) player.containerMenu;
             switch (type) {
+                case BATCH_PART:
+                    container.handleBatchPart(itemMap);
+                    break;
                 case BATCH:
                     container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
                     break;
@@ -61,16 +71,12 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         if (type == Type.BATCH || type == Type.UPDATE) {
             buffer.writeVarLong(countCapacity);
             buffer.writeVarInt(typeCapacity);
+        }
+        if (type != Type.KILL) {
             buffer.writeVarInt(itemMap.size());
             itemMap.forEach((key, value) -> {
                 buffer.writeItem(key.getStack());
-                if (key.getUUID() == null) {
-                    //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                    buffer.writeBoolean(false);
-                } else {
-                    buffer.writeBoolean(true);
-                    buffer.writeUUID(key.getUUID());
-                }
+                buffer.writeVarInt(key.getTypeId());
                 buffer.writeVarLong(value);
             });
         }
@@ -80,20 +86,23 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         Type type = buffer.readEnum(Type.class);
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
+        Object2LongMap<TypeIdAwareHashedItem> map = null;
         if (type == Type.BATCH || type == Type.UPDATE) {
             countCapacity = buffer.readVarLong();
             typeCapacity = buffer.readVarInt();
+        }
+        if (type != Type.KILL) {
             int count = buffer.readVarInt();
             map = new Object2LongOpenHashMap<>(count);
             for (int i = 0; i < count; i++) {
-                map.put(new UUIDAwareHashedItem(buffer.readItem(), buffer.readBoolean() ? buffer.readUUID() : null), buffer.readVarLong());
+                map.put(new TypeIdAwareHashedItem(buffer.readItem(), buffer.readVarInt()), buffer.readVarLong());
             }
         }
         return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
     }
 
     public enum Type {
+        BATCH_PART,
         BATCH,
         UPDATE,
         KILL;
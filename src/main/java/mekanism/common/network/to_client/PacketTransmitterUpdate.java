@@ -1,6 +1,7 @@
 package mekanism.common.network.to_client;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import mekanism.api.chemical.merged.BoxedChemical;
@@ -16,76 +17,132 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fml.network.NetworkEvent;
 
+/**
+ * Syncs how full a batch of transmitter networks are and what they contain, so that the client can render them.
+ */
 public class PacketTransmitterUpdate implements IMekanismPacket {
 
-    private final PacketType packetType;
-    private final UUID networkID;
-    private final float scale;
-    @Nonnull
-    private BoxedChemical chemical = BoxedChemical.EMPTY;
-    @Nonnull
-    private FluidStack fluidStack = FluidStack.EMPTY;
+    private final List<TransmitterUpdate> updates;
 
-    public PacketTransmitterUpdate(EnergyNetwork network) {
-        this(network, PacketType.ENERGY);
+    public PacketTransmitterUpdate(List<TransmitterUpdate> updates) {
+        this.updates = updates;
     }
 
-    public PacketTransmitterUpdate(BoxedChemicalNetwork network, @Nonnull BoxedChemical chemical) {
-        this(network, PacketType.CHEMICAL);
-        this.chemical = chemical;
+    @Override
+    public void handle(NetworkEvent.Context context) {
+        for (TransmitterUpdate update : updates) {
+            update.handle();
+        }
     }
 
-    public PacketTransmitterUpdate(FluidNetwork network, @Nonnull FluidStack fluidStack) {
-        this(network, PacketType.FLUID);
-        this.fluidStack = fluidStack;
+    @Override
+    public void encode(PacketBuffer buffer) {
+        BasePacketHandler.log("Sending update message for {} networks", updates.size());
+        buffer.writeVarInt(updates.size());
+        for (TransmitterUpdate update : updates) {
+            update.write(buffer);
+        }
     }
 
-    private PacketTransmitterUpdate(DynamicBufferedNetwork<?, ?, ?, ?> network, PacketType type) {
-        this(type, network.getUUID(), network.currentScale);
+    public static PacketTransmitterUpdate decode(PacketBuffer buffer) {
+        int count = buffer.readVarInt();
+        List<TransmitterUpdate> updates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            updates.add(TransmitterUpdate.read(buffer));
+        }
+        return new PacketTransmitterUpdate(updates);
     }
 
-    private PacketTransmitterUpdate(PacketType type, UUID networkID, float scale) {
-        packetType = type;
-        this.networkID = networkID;
-        this.scale = scale;
-    }
+    public static class TransmitterUpdate {
 
-    @Override
-    public void handle(NetworkEvent.Context context) {
-        DynamicNetwork<?, ?, ?> clientNetwork = TransmitterNetworkRegistry.getInstance().getClientNetwork(networkID);
-        if (clientNetwork != null && packetType.networkTypeMatches(clientNetwork)) {
-            //Note: We set the information even if opaque transmitters is true in case the client turns the config setting off
-            // so that they will have the proper information to then render
-            if (packetType == PacketType.CHEMICAL) {
-                ((BoxedChemicalNetwork) clientNetwork).setLastChemical(chemical);
-            } else if (packetType == PacketType.FLUID) {
-                ((FluidNetwork) clientNetwork).setLastFluid(fluidStack);
+        /**
+         * Number of bytes we count a registry id as taking up as a var int. Ids are handed out sequentially, so in practice they are below 2^21 and fit in this.
+         */
+        private static final int REGISTRY_ID_SIZE = 3;
+
+        private final PacketType packetType;
+        private final int networkID;
+        private final int scale;
+        @Nonnull
+        private BoxedChemical chemical = BoxedChemical.EMPTY;
+        @Nonnull
+        private FluidStack fluidStack = FluidStack.EMPTY;
+
+        public TransmitterUpdate(EnergyNetwork network) {
+            this(network, PacketType.ENERGY);
+        }
+
+        public TransmitterUpdate(BoxedChemicalNetwork network, @Nonnull BoxedChemical chemical) {
+            this(network, PacketType.CHEMICAL);
+            this.chemical = chemical;
+        }
+
+        public TransmitterUpdate(FluidNetwork network, @Nonnull FluidStack fluidStack) {
+            this(network, PacketType.FLUID);
+            this.fluidStack = fluidStack;
+        }
+
+        private TransmitterUpdate(DynamicBufferedNetwork<?, ?, ?, ?> network, PacketType type) {
+            this(type, network.getSessionId(), DynamicBufferedNetwork.quantizeScale(network.currentScale));
+        }
+
+        private TransmitterUpdate(PacketType type, int networkID, int scale) {
+            packetType = type;
+            this.networkID = networkID;
+            this.scale = scale;
+        }
+
+        private void handle() {
+            DynamicNetwork<?, ?, ?> clientNetwork = TransmitterNetworkRegistry.getInstance().getClientNetwork(networkID);
+            if (clientNetwork != null && packetType.networkTypeMatches(clientNetwork)) {
+                //Note: We set the information even if opaque transmitters is true in case the client turns the config setting off
+                // so that they will have the proper information to then render
+                if (packetType == PacketType.CHEMICAL) {
+                    ((BoxedChemicalNetwork) clientNetwork).setLastChemical(chemical);
+                } else if (packetType == PacketType.FLUID) {
+                    ((FluidNetwork) clientNetwork).setLastFluid(fluidStack);
+                }
+                ((DynamicBufferedNetwork<?, ?, ?, ?>) clientNetwork).currentScale = scale / (float) DynamicBufferedNetwork.SCALE_STEPS;
             }
-            ((DynamicBufferedNetwork<?, ?, ?, ?>) clientNetwork).currentScale = scale;
         }
-    }
 
-    @Override
-    public void encode(PacketBuffer buffer) {
-        buffer.writeEnum(packetType);
-        buffer.writeUUID(networkID);
-        buffer.writeFloat(scale);
-        BasePacketHandler.log("Sending '{}' update message for network with id {}", packetType, networkID);
-        if (packetType == PacketType.FLUID) {
-            fluidStack.writeToPacket(buffer);
-        } else if (packetType == PacketType.CHEMICAL) {
-            chemical.write(buffer);
+        /**
+         * Estimates how many bytes {@link #write(PacketBuffer)} will write, without having to encode the update. Registry ids are counted as three bytes, and any NBT
+         * on a fluid is not counted, so this is only exact for the energy updates.
+         */
+        public int getEstimatedSize() {
+            //Packet type, network id, and scale
+            int size = 1 + PacketBuffer.getVarIntSize(networkID) + 1;
+            if (packetType == PacketType.FLUID) {
+                //Fluid id, amount, and the marker for whether there is NBT
+                size += REGISTRY_ID_SIZE + PacketBuffer.getVarIntSize(fluidStack.getAmount()) + 1;
+            } else if (packetType == PacketType.CHEMICAL) {
+                //Chemical type and chemical id
+                size += 1 + REGISTRY_ID_SIZE;
+            }
+            return size;
         }
-    }
 
-    public static PacketTransmitterUpdate decode(PacketBuffer buffer) {
-        PacketTransmitterUpdate packet = new PacketTransmitterUpdate(buffer.readEnum(PacketType.class), buffer.readUUID(), buffer.readFloat());
-        if (packet.packetType == PacketType.FLUID) {
-            packet.fluidStack = FluidStack.readFromPacket(buffer);
-        } else if (packet.packetType == PacketType.CHEMICAL) {
-            packet.chemical = BoxedChemical.read(buffer);
+        public void write(PacketBuffer buffer) {
+            buffer.writeEnum(packetType);
+            buffer.writeVarInt(networkID);
+            buffer.writeByte(scale);
+            if (packetType == PacketType.FLUID) {
+                fluidStack.writeToPacket(buffer);
+            } else if (packetType == PacketType.CHEMICAL) {
+                chemical.write(buffer);
+            }
+        }
+
+        private static TransmitterUpdate read(PacketBuffer buffer) {
+            TransmitterUpdate update = new TransmitterUpdate(buffer.readEnum(PacketType.class), buffer.readVarInt(), buffer.readUnsignedByte());
+            if (update.packetType == PacketType.FLUID) {
+                update.fluidStack = FluidStack.readFromPacket(buffer);
+            } else if (update.packetType == PacketType.CHEMICAL) {
+                update.chemical = BoxedChemical.read(buffer);
+            }
+            return update;
         }
-        return packet;
     }
 
     public enum PacketType {
@@ -103,4 +160,4 @@ public class PacketTransmitterUpdate implements IMekanismPacket {
             return networkTypePredicate.test(network);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 package mekanism.common.network.to_client;
 
+import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.TagDelta;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.client.Minecraft;
@@ -11,18 +13,34 @@ import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.network.NetworkEvent;
 
+/**
+ * Syncs the update tag of a tile to the client, either in full or as the changes since the previous version of the update tag.
+ */
 public class PacketUpdateTile implements IMekanismPacket {
 
-    private final CompoundNBT updateTag;
     private final BlockPos pos;
+    private final int version;
+    @Nullable
+    private final CompoundNBT updateTag;
+    @Nullable
+    private final TagDelta delta;
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag());
-    }
-
-    private PacketUpdateTile(BlockPos pos, CompoundNBT updateTag) {
+    private PacketUpdateTile(BlockPos pos, int version, @Nullable CompoundNBT updateTag, @Nullable TagDelta delta) {
         this.pos = pos;
+        this.version = version;
         this.updateTag = updateTag;
+        this.delta = delta;
+    }
+
+    public static PacketUpdateTile full(BlockPos pos, int version, CompoundNBT updateTag) {
+        return new PacketUpdateTile(pos, version, updateTag, null);
+    }
+
+    /**
+     * @param delta Changes between the previous version of the update tag and this version.
+     */
+    public static PacketUpdateTile delta(BlockPos pos, int version, TagDelta delta) {
+        return new PacketUpdateTile(pos, version, null, delta);
     }
 
     @Override
@@ -33,8 +51,10 @@ public class PacketUpdateTile implements IMekanismPacket {
             if (tile == null) {
                 Mekanism.logger.info("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
                       world.dimension().location());
+            } else if (updateTag == null) {
+                tile.handleUpdatePacket(delta, version);
             } else {
-                tile.handleUpdatePacket(updateTag);
+                tile.handleUpdatePacket(updateTag, version);
             }
         }
     }
@@ -42,10 +62,21 @@ public class PacketUpdateTile implements IMekanismPacket {
     @Override
     public void encode(PacketBuffer buffer) {
         buffer.writeBlockPos(pos);
-        buffer.writeNbt(updateTag);
+        buffer.writeVarInt(version);
+        buffer.writeBoolean(updateTag == null);
+        if (updateTag == null) {
+            delta.write(buffer);
+        } else {
+            buffer.writeNbt(updateTag);
+        }
     }
 
     public static PacketUpdateTile decode(PacketBuffer buffer) {
-        return new PacketUpdateTile(buffer.readBlockPos(), buffer.readNbt());
+        BlockPos pos = buffer.readBlockPos();
+        int version = buffer.readVarInt();
+        if (buffer.readBoolean()) {
+            return delta(pos, version, TagDelta.read(buffer));
+        }
+        return full(pos, version, buffer.readNbt());
     }
-}
\ No newline at end of file
+}
@@ -4,7 +4,6 @@ import it.unimi.dsi.fastutil.bytes.Byte2ObjectArrayMap;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectMap;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
 import mekanism.api.inventory.AutomationType;
@@ -83,17 +82,13 @@ public class PacketQIOFillCraftingWindow implements IMekanismPacket {
             SingularHashedItemSource source = entry.getValue();
             byte sourceSlot = source.getSlot();
             //We "cheat" here by just writing the source slot regardless of if we are in the crafting window, main inventory, or QIO
-            // as then we can use the not a valid value as indication that we have a UUID following for QIO source, and otherwise we
+            // as then we can use the not a valid value as indication that we have a type id following for QIO source, and otherwise we
             // get away with not having to write some sort of identifier for which type of data we are transferring
             buffer.writeByte(sourceSlot);
             if (sourceSlot == -1) {
-                //If we don't actually have a source slot, that means we need to write the UUID
+                //If we don't actually have a source slot, that means we need to write the type id
                 // as it is being transferred out of the QIO
-                UUID qioSource = source.getQioSource();
-                if (qioSource == null) {
-                    throw new IllegalStateException("Invalid QIO crafting window transfer source.");
-                }
-                buffer.writeUUID(qioSource);
+                buffer.writeVarInt(source.getQioSource());
             }
         }
     }
@@ -107,7 +102,7 @@ public class PacketQIOFillCraftingWindow implements IMekanismPacket {
             byte targetSlot = buffer.readByte();
             byte sourceSlot = buffer.readByte();
             if (sourceSlot == -1) {
-                sources.put(targetSlot, new SingularHashedItemSource(buffer.readUUID()));
+                sources.put(targetSlot, new SingularHashedItemSource(buffer.readVarInt()));
             } else {
                 sources.put(targetSlot, new SingularHashedItemSource(sourceSlot));
             }
@@ -126,17 +121,14 @@ public class PacketQIOFillCraftingWindow implements IMekanismPacket {
             SingularHashedItemSource source = entry.getValue();
             byte slot = source.getSlot();
             if (slot == -1) {
-                UUID qioSource = source.getQioSource();
-                if (qioSource == null) {
-                    Mekanism.logger.warn("Received transfer request from: {}, for: {}, with no valid source.", player, recipeID);
-                    return;
-                } else if (frequency == null) {
+                int qioSource = source.getQioSource();
+                if (frequency == null) {
                     Mekanism.logger.warn("Received transfer request from: {}, for: {}, with a QIO source but no selected frequency.", player, recipeID);
                     return;
                 }
-                HashedItem storedItem = frequency.getTypeByUUID(qioSource);
+                HashedItem storedItem = frequency.getTypeById(qioSource);
                 if (storedItem == null) {
-                    Mekanism.logger.warn("Received transfer request from: {}, for: {}, could not find stored item with UUID: {}.", player, recipeID, qioSource);
+                    Mekanism.logger.warn("Received transfer request from: {}, for: {}, could not find stored item with type id: {}.", player, recipeID, qioSource);
                     return;
                 }
                 stack = storedItem.getStack();
@@ -223,14 +215,14 @@ public class PacketQIOFillCraftingWindow implements IMekanismPacket {
             SingularHashedItemSource source = entry.getValue();
             byte slot = source.getSlot();
             if (slot == -1) {
-                UUID qioSource = source.getQioSource();
-                if (qioSource == null || frequency == null) {
+                int qioSource = source.getQioSource();
+                if (frequency == null) {
                     //Fixes null warnings, we already validate this isn't an issue above
-                    throw new IllegalStateException("Invalid QIO source or frequency");
+                    throw new IllegalStateException("Invalid QIO frequency");
                 }
-                HashedItem storedItem = frequency.getTypeByUUID(qioSource);
+                HashedItem storedItem = frequency.getTypeById(qioSource);
                 if (storedItem == null) {
-                    Mekanism.logger.warn("Received transfer request from: {}, for: {}, could not find stored item with UUID: {}. "
+                    Mekanism.logger.warn("Received transfer request from: {}, for: {}, could not find stored item with type id: {}. "
                                          + "This likely means that more of it was requested than is stored.", player, recipeID, qioSource);
                     return;
                 }
@@ -1,6 +1,5 @@
 package mekanism.common.network.to_server;
 
-import java.util.UUID;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
@@ -17,25 +16,25 @@ import net.minecraftforge.fml.network.NetworkEvent;
 public class PacketQIOItemViewerSlotInteract implements IMekanismPacket {
 
     private final Type type;
-    private final UUID typeUUID;
+    private final int typeId;
     private final int count;
 
-    private PacketQIOItemViewerSlotInteract(Type type, UUID typeUUID, int count) {
+    private PacketQIOItemViewerSlotInteract(Type type, int typeId, int count) {
         this.type = type;
-        this.typeUUID = typeUUID;
+        this.typeId = typeId;
         this.count = count;
     }
 
-    public static PacketQIOItemViewerSlotInteract take(UUID typeUUID, int count) {
-        return new PacketQIOItemViewerSlotInteract(Type.TAKE, typeUUID, count);
+    public static PacketQIOItemViewerSlotInteract take(int typeId, int count) {
+        return new PacketQIOItemViewerSlotInteract(Type.TAKE, typeId, count);
     }
 
     public static PacketQIOItemViewerSlotInteract put(int count) {
-        return new PacketQIOItemViewerSlotInteract(Type.PUT, null, count);
+        return new PacketQIOItemViewerSlotInteract(Type.PUT, -1, count);
     }
 
-    public static PacketQIOItemViewerSlotInteract shiftTake(UUID typeUUID) {
-        return new PacketQIOItemViewerSlotInteract(Type.SHIFT_TAKE, typeUUID, 0);
+    public static PacketQIOItemViewerSlotInteract shiftTake(int typeId) {
+        return new PacketQIOItemViewerSlotInteract(Type.SHIFT_TAKE, typeId, 0);
     }
 
     @Override
@@ -47,7 +46,7 @@ public class PacketQIOItemViewerSlotInteract implements IMekanismPacket {
             ItemStack curStack = player.inventory.getCarried();
             if (freq != null) {
                 if (type == Type.TAKE) {
-                    ItemStack ret = freq.removeByType(freq.getTypeByUUID(typeUUID), count);
+                    ItemStack ret = freq.removeByType(freq.getTypeById(typeId), count);
                     if (curStack.isEmpty()) {
                         player.inventory.setCarried(ret);
                     } else if (InventoryUtils.areItemsStackable(ret, curStack)) {
@@ -55,7 +54,7 @@ public class PacketQIOItemViewerSlotInteract implements IMekanismPacket {
                     }
                     player.connection.send(new SSetSlotPacket(-1, -1, player.inventory.getCarried()));
                 } else if (type == Type.SHIFT_TAKE) {
-                    HashedItem itemType = freq.getTypeByUUID(typeUUID);
+                    HashedItem itemType = freq.getTypeById(typeId);
                     if (itemType != null) {
                         ItemStack ret = freq.removeByType(itemType, itemType.getStack().getMaxStackSize());
                         ItemStack remainder = container.insertIntoPlayerInventory(player.getUUID(), ret);
@@ -83,11 +82,11 @@ public class PacketQIOItemViewerSlotInteract implements IMekanismPacket {
         buffer.writeEnum(type);
         switch (type) {
             case TAKE:
-                buffer.writeUUID(typeUUID);
+                buffer.writeVarInt(typeId);
                 buffer.writeVarInt(count);
                 break;
             case SHIFT_TAKE:
-                buffer.writeUUID(typeUUID);
+                buffer.writeVarInt(typeId);
                 break;
             case PUT:
                 buffer.writeVarInt(count);
@@ -97,21 +96,21 @@ public class PacketQIOItemViewerSlotInteract implements IMekanismPacket {
 
     public static PacketQIOItemViewerSlotInteract decode(PacketBuffer buffer) {
         Type type = buffer.readEnum(Type.class);
-        UUID typeUUID = null;
+        int typeId = -1;
         int count = 0;
         switch (type) {
             case TAKE:
-                typeUUID = buffer.readUUID();
+                typeId = buffer.readVarInt();
                 count = buffer.readVarInt();
                 break;
             case SHIFT_TAKE:
-                typeUUID = buffer.readUUID();
+                typeId = buffer.readVarInt();
                 break;
             case PUT:
                 count = buffer.readVarInt();
                 break;
         }
-        return new PacketQIOItemViewerSlotInteract(type, typeUUID, count);
+        return new PacketQIOItemViewerSlotInteract(type, typeId, count);
     }
 
     public enum Type {
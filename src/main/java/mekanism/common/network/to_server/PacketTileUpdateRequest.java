@@ -0,0 +1,48 @@
+package mekanism.common.network.to_server;
+
+import mekanism.common.network.IMekanismPacket;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+/**
+ * Sent by the client when it receives changes to the update tag of a tile that it does not have the matching previous version of, so that the server can resend the
+ * full update tag.
+ */
+public class PacketTileUpdateRequest implements IMekanismPacket {
+
+    private final BlockPos pos;
+
+    public PacketTileUpdateRequest(BlockPos pos) {
+        this.pos = pos;
+    }
+
+    @Override
+    public void handle(NetworkEvent.Context context) {
+        ServerPlayerEntity player = context.getSender();
+        if (player != null) {
+            ServerWorld world = player.getLevel();
+            //Only send the update to players that are tracking the tile and would be receiving updates for it anyways
+            if (world.getChunkSource().chunkMap.getPlayers(new ChunkPos(pos), false).anyMatch(p -> p == player)) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos);
+                if (tile != null) {
+                    tile.sendFullUpdatePacket(player);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void encode(PacketBuffer buffer) {
+        buffer.writeBlockPos(pos);
+    }
+
+    public static PacketTileUpdateRequest decode(PacketBuffer buffer) {
+        return new PacketTileUpdateRequest(buffer.readBlockPos());
+    }
+}
@@ -97,6 +97,13 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
         }
     }
 
+    /**
+     * @return {@code true} if no recipe matched the last time we looked for one, and the contents haven't changed since.
+     */
+    public boolean hasNoRecipe() {
+        return hasNoRecipe;
+    }
+
     @Override
     public boolean hasNoRecipe(int cacheIndex) {
         return this.cacheIndex == cacheIndex ? hasNoRecipe : ICachedRecipeHolder.super.hasNoRecipe(cacheIndex);
@@ -5,17 +5,13 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
-import mekanism.api.NBTConstants;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.common.content.qio.IQIODriveItem;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.util.ItemDataUtils;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.CompoundNBT;
-import net.minecraft.nbt.ListNBT;
 
 /**
  * QIO Drive merging data helper. Duplicates a fair bit of code from {@link QIODriveData}, but without requiring a {@link QIODriveKey}, and not validating the total size
@@ -28,14 +24,10 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
     private final Object2LongMap<HashedItem> itemMap;
     private final long itemCount;
 
-    QIORecipeData(DriveMetadata data, ListNBT nbtItemMap) {
+    QIORecipeData(DriveMetadata data, IQIODriveItem driveItem, ItemStack stack) {
         itemCount = data.getCount();
         itemMap = new Object2LongOpenHashMap<>(data.getTypes());
-        for (int i = 0; i < nbtItemMap.size(); i++) {
-            CompoundNBT tag = nbtItemMap.getCompound(i);
-            ItemStack itemType = ItemStack.of(tag.getCompound(NBTConstants.ITEM));
-            itemMap.put(HashedItem.create(itemType), tag.getLong(NBTConstants.AMOUNT));
-        }
+        driveItem.loadItemMap(stack, itemMap);
     }
 
     private QIORecipeData(Object2LongMap<HashedItem> itemMap, long itemCount) {
@@ -67,14 +59,7 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
             // then return that we are not able to actually apply them to the stack
             return false;
         }
-        ListNBT list = new ListNBT();
-        for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
-            CompoundNBT tag = new CompoundNBT();
-            tag.put(NBTConstants.ITEM, entry.getKey().getStack().save(new CompoundNBT()));
-            tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
-        }
-        ItemDataUtils.setList(stack, NBTConstants.QIO_ITEM_MAP, list);
+        IQIODriveItem.writeItemMap(stack, itemMap);
         DriveMetadata meta = new DriveMetadata(itemCount, itemMap.size());
         meta.write(stack);
         return true;
@@ -131,9 +131,10 @@ public interface RecipeUpgradeData<TYPE extends RecipeUpgradeData<TYPE>> {
                 return componentUpgrade.isEmpty() ? null : new UpgradesRecipeData(Upgrade.buildMap(componentUpgrade));
             case QIO_DRIVE:
                 DriveMetadata data = DriveMetadata.load(stack);
-                if (data.getCount() > 0 && ((IQIODriveItem) item).hasStoredItemMap(stack)) {
+                IQIODriveItem driveItem = (IQIODriveItem) item;
+                if (data.getCount() > 0 && driveItem.hasStoredItemMap(stack)) {
                     //If we don't have any stored items don't actually grab any recipe data
-                    return new QIORecipeData(data, ItemDataUtils.getList(stack, NBTConstants.QIO_ITEM_MAP));
+                    return new QIORecipeData(data, driveItem, stack);
                 }
                 break;
         }
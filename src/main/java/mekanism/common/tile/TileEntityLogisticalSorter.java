@@ -1,6 +1,10 @@
 package mekanism.common.tile;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -90,24 +94,16 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
             TileEntity front = WorldUtils.getTileEntity(getLevel(), worldPosition.relative(direction));
             //If there is no tile to pull from or the push to, skip doing any checks
             if (InventoryUtils.isItemHandler(back, direction) && front != null) {
-                boolean sentItems = false;
-                for (SorterFilter<?> filter : filters) {
-                    TransitRequest request = filter.mapInventory(back, direction, singleItem);
-                    if (request.isEmpty()) {
-                        continue;
-                    }
-                    int min = singleItem ? 1 : filter.sizeMode ? filter.min : 0;
-                    TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
-                    if (!response.isEmpty()) {
-                        response.useAll();
-                        WorldUtils.saveChunk(back);
-                        setActive(true);
-                        sentItems = true;
-                        break;
-                    }
+                boolean sentItems;
+                if (front instanceof TileEntityLogisticalTransporterBase) {
+                    sentItems = emitFiltersToTransporter(((TileEntityLogisticalTransporterBase) front).getTransmitter(), back, direction);
+                } else {
+                    sentItems = emitFilters(front, back, direction);
                 }
-
-                if (!sentItems && autoEject) {
+                if (sentItems) {
+                    WorldUtils.saveChunk(back);
+                    setActive(true);
+                } else if (autoEject) {
                     TransitRequest request = TransitRequest.definedItem(back, direction, singleItem ? 1 : 64, strictFinder);
                     TransitResponse response = emitItemToTransporter(front, request, color, 0);
                     if (!response.isEmpty()) {
@@ -121,6 +117,52 @@ public class TileEntityLogisticalSorter extends TileEntityMekanism implements IS
         }
     }
 
+    /**
+     * Sends the items of the first filter that can be sent anywhere, with the acceptors for all the filters calculated in one go instead of searching the network again
+     * for each filter.
+     */
+    private boolean emitFiltersToTransporter(LogisticalTransporterBase transporter, TileEntity back, Direction direction) {
+        List<TransitRequest> requests = new ArrayList<>(filters.size());
+        List<EnumColor> colors = new ArrayList<>(filters.size());
+        IntList mins = new IntArrayList(filters.size());
+        for (SorterFilter<?> filter : filters) {
+            TransitRequest request = filter.mapInventory(back, direction, singleItem);
+            if (!request.isEmpty()) {
+                requests.add(request);
+                colors.add(filter.color);
+                mins.add(getMin(filter));
+            }
+        }
+        if (requests.isEmpty()) {
+            return false;
+        }
+        TransitResponse response = transporter.insertFirst(this, requests, colors, mins, roundRobin, true);
+        if (response == null || response.isEmpty()) {
+            return false;
+        }
+        response.useAll();
+        return true;
+    }
+
+    private boolean emitFilters(TileEntity front, TileEntity back, Direction direction) {
+        for (SorterFilter<?> filter : filters) {
+            TransitRequest request = filter.mapInventory(back, direction, singleItem);
+            if (request.isEmpty()) {
+                continue;
+            }
+            TransitResponse response = emitItemToTransporter(front, request, filter.color, getMin(filter));
+            if (!response.isEmpty()) {
+                response.useAll();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int getMin(SorterFilter<?> filter) {
+        return singleItem ? 1 : filter.sizeMode ? filter.min : 0;
+    }
+
     private TransitResponse emitItemToTransporter(TileEntity front, TransitRequest request, EnumColor filterColor, int min) {
         if (front instanceof TileEntityLogisticalTransporterBase) {
             LogisticalTransporterBase transporter = ((TileEntityLogisticalTransporterBase) front).getTransmitter();
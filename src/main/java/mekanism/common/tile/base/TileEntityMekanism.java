@@ -34,6 +34,7 @@ import mekanism.api.math.FloatingLong;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.block.attribute.Attribute;
 import mekanism.common.block.attribute.AttributeGui;
@@ -48,6 +49,7 @@ import mekanism.common.block.attribute.Attributes.AttributeRedstone;
 import mekanism.common.block.attribute.Attributes.AttributeSecurity;
 import mekanism.common.block.interfaces.IHasTileEntity;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.capabilities.heat.BasicHeatCapacitor;
 import mekanism.common.capabilities.heat.ITileHeatHandler;
@@ -85,6 +87,7 @@ import mekanism.common.inventory.container.sync.chemical.SyncableSlurryStack;
 import mekanism.common.inventory.container.sync.dynamic.SyncMapper;
 import mekanism.common.item.ItemConfigurationCard;
 import mekanism.common.item.ItemConfigurator;
+import mekanism.common.lib.SleepTracker;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.lib.frequency.IFrequencyHandler;
 import mekanism.common.lib.frequency.TileComponentFrequency;
@@ -251,6 +254,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     private int playSoundCooldown = 0;
     //End variables ITileSound
 
+    @Nullable
+    private NeighborCapabilityCache neighborCache;
+
+    //Variables for handling sleeping while idle
+    private final SleepTracker sleepTracker = new SleepTracker();
+    //End variables for sleeping while idle
+
     public TileEntityMekanism(IBlockProvider blockProvider) {
         super(((IHasTileEntity<? extends TileEntity>) blockProvider.getBlock()).getTileType());
         this.blockProvider = blockProvider;
@@ -498,6 +508,13 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             }
             onUpdateClient();
         } else {
+            if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                //Wake up when recipes or tags change as we may have a recipe again
+                sleepTracker.wake();
+            }
+            if (!sleepTracker.shouldTick()) {
+                return;
+            }
             frequencyComponent.tickServer();
             if (supportsUpgrades()) {
                 upgradeComponent.tickServer();
@@ -533,6 +550,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
                 }
                 updateComparators = false;
             }
+            sleepTracker.onTicked(canSleep());
         }
         ticker++;
         if (supportsRedstone()) {
@@ -542,6 +560,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void open(PlayerEntity player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(PlayerEntity player) {
@@ -576,6 +595,43 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
     }
 
+    /**
+     * Whether this tile has nothing to do and can stop ticking until its contents change, a neighbor or the redstone signal changes, or it receives energy. Sleeping
+     * tiles still tick occasionally, see {@link SleepTracker}.
+     *
+     * @implNote Defaults to {@code false} so that tiles have to opt in to sleeping.
+     */
+    protected boolean isIdle() {
+        return false;
+    }
+
+    private boolean canSleep() {
+        return isIdle() && updateDelay == 0 && !updateComparators && playersUsing.isEmpty() && !hasChunkloader && (!supportsUpgrades() || !upgradeComponent.isUpgrading());
+    }
+
+    /**
+     * Gets the cache of the tiles and capabilities next to this tile, creating it if needed.
+     *
+     * @apiNote Only call this from the server side.
+     */
+    public NeighborCapabilityCache getNeighborCache() {
+        if (neighborCache == null) {
+            neighborCache = new NeighborCapabilityCache(this);
+        }
+        return neighborCache;
+    }
+
+    /**
+     * Makes this tile start ticking again if it is sleeping.
+     */
+    public void wakeUp() {
+        sleepTracker.wake();
+    }
+
+    public boolean isSleeping() {
+        return sleepTracker.isSleeping();
+    }
+
     /**
      * Update call for machines. Use instead of updateEntity -- it's called every tick on the client side.
      */
@@ -760,8 +816,20 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
-        if (!isRemote() && supportsRedstone()) {
-            updatePower();
+        if (!isRemote()) {
+            wakeUp();
+            if (neighborCache != null) {
+                Direction side = WorldUtils.sideDifference(neighborPos, worldPosition);
+                if (side == null) {
+                    //Not directly next to us (for example if it is next to one of our bounding blocks), just invalidate all sides
+                    neighborCache.invalidateAll();
+                } else {
+                    neighborCache.invalidate(side);
+                }
+            }
+            if (supportsRedstone()) {
+                updatePower();
+            }
         }
     }
 
@@ -833,6 +901,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     public void setControlType(@Nonnull RedstoneControl type) {
         if (supportsRedstone()) {
             controlType = Objects.requireNonNull(type);
+            wakeUp();
             markDirty(false);
         }
     }
@@ -851,6 +920,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         boolean power = level.hasNeighborSignal(getBlockPos());
         if (redstone != power) {
             redstone = power;
+            wakeUp();
             onPowerChange();
         }
     }
@@ -923,6 +993,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void onContentsChanged() {
+        wakeUp();
         markDirty(false);
     }
 
@@ -1012,6 +1083,9 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         FloatingLong remainder = energyContainer.insert(amount, action, side == null ? AutomationType.INTERNAL : AutomationType.EXTERNAL);
         if (action.execute()) {
+            if (remainder.smallerThan(amount)) {
+                wakeUp();
+            }
             lastEnergyReceived = lastEnergyReceived.plusEqual(amount.subtract(remainder));
         }
         return remainder;
@@ -4,12 +4,16 @@ import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.NBTConstants;
 import mekanism.common.Mekanism;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.TagDelta;
 import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_server.PacketTileUpdateRequest;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.block.BlockState;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketDirection;
@@ -18,6 +22,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.Constants.NBT;
 
 /**
  * Extension of TileEntity that adds various helpers we use across the majority of our Tiles even those that are not an instance of TileEntityMekanism. Additionally we
@@ -25,9 +30,23 @@ import net.minecraft.world.World;
  */
 public abstract class TileEntityUpdateable extends TileEntity implements ITileWrapper {
 
+    /**
+     * Number of ticks (two seconds) to wait for the server to answer a request for the full update tag before asking again.
+     */
+    private static final int FULL_UPDATE_TIMEOUT = 40;
+
     @Nullable
     private Coord4D cachedCoord;
     private boolean cacheCoord;
+    /**
+     * The last update tag that was sent to the client when on the server, or that was received from the server when on the client, and its version. This lets us only
+     * send the changes to the update tag instead of the full tag.
+     */
+    @Nullable
+    private CompoundNBT syncedUpdateTag;
+    private int syncedUpdateVersion;
+    private boolean awaitingFullUpdate;
+    private long fullUpdateRequestTime;
 
     public TileEntityUpdateable(TileEntityType<?> type) {
         super(type);
@@ -95,11 +114,37 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
     @Nullable
     @Override
     public SUpdateTileEntityPacket getUpdatePacket() {
-        return new SUpdateTileEntityPacket(getBlockPos(), 0, getUpdateTag());
+        CompoundNBT updateTag = getUpdateTag();
+        if (level != null && !isRemote()) {
+            //The update packet gets sent to everyone tracking the tile, so make the update tag in it the version we send the changes to. This way clients don't need
+            // to request the full update tag when they get the next changes, even if the tile had changes we had not synced yet
+            CompoundNBT reducedTag = updateTag.copy();
+            reducedTag.remove(NBTConstants.UPDATE_VERSION);
+            removeInitialUpdateData(reducedTag);
+            if (!reducedTag.equals(syncedUpdateTag)) {
+                syncedUpdateTag = reducedTag;
+                ++syncedUpdateVersion;
+            }
+            updateTag.putInt(NBTConstants.UPDATE_VERSION, syncedUpdateVersion);
+        }
+        return new SUpdateTileEntityPacket(getBlockPos(), 0, updateTag);
     }
 
     @Override
     public void handleUpdateTag(BlockState state, @Nonnull CompoundNBT tag) {
+        if (tag.contains(NBTConstants.UPDATE_VERSION, NBT.TAG_INT)) {
+            //The tag is a version of the update tag the server sends changes to (for example from the chunk data when we start tracking the tile),
+            // so keep it so that we can apply those changes without having to request the full update tag first
+            CompoundNBT updateTag = tag.copy();
+            updateTag.remove(NBTConstants.UPDATE_VERSION);
+            removeInitialUpdateData(updateTag);
+            syncedUpdateTag = updateTag;
+            syncedUpdateVersion = tag.getInt(NBTConstants.UPDATE_VERSION);
+            awaitingFullUpdate = false;
+        } else {
+            //We don't know which version of the update tag this is, so we have to get the full update tag from the server before we can apply any changes to it
+            resetSyncedUpdateTag();
+        }
         //We don't want to do a full read from NBT so simply call the super's read method to let Forge do whatever
         // it wants, but don't treat this as if it was the full saved NBT data as not everything has to be synced to the client
         super.load(state, tag);
@@ -108,7 +153,21 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
     @Nonnull
     @Override
     public CompoundNBT getUpdateTag() {
-        return getReducedUpdateTag();
+        CompoundNBT updateTag = getReducedUpdateTag();
+        if (level != null && !isRemote() && !isRemoved() && updateTag.equals(syncedUpdateTag)) {
+            //Note: We don't change anything from here as this gets called while serializing chunks, instead we only mark which version of the update tag this is
+            // if it is that version, so that clients that get it can apply the changes we send to it without having to request the full update tag first.
+            // If nobody has been sent any version yet, the next changes get sent as the full update tag anyway
+            updateTag.putInt(NBTConstants.UPDATE_VERSION, syncedUpdateVersion);
+        }
+        return updateTag;
+    }
+
+    /**
+     * Removes anything {@link #getUpdateTag()} adds to the update tag that is not part of {@link #getReducedUpdateTag()}, as the changes the server sends are only to
+     * the reduced update tag.
+     */
+    protected void removeInitialUpdateData(@Nonnull CompoundNBT updateTag) {
     }
 
     /**
@@ -132,6 +191,41 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
         handleUpdateTag(getBlockState(), tag);
     }
 
+    /**
+     * Handles a full update tag sent by {@link PacketUpdateTile}.
+     */
+    public void handleUpdatePacket(@Nonnull CompoundNBT tag, int version) {
+        handleUpdatePacket(tag);
+        syncedUpdateTag = tag;
+        syncedUpdateVersion = version;
+        awaitingFullUpdate = false;
+    }
+
+    /**
+     * Handles the changes to the update tag sent by {@link PacketUpdateTile}.
+     */
+    public void handleUpdatePacket(@Nonnull TagDelta delta, int version) {
+        CompoundNBT tag = syncedUpdateTag;
+        if (tag == null || version != syncedUpdateVersion + 1) {
+            //We don't have the version the changes are relative to, ask the server for the full update tag and ignore any changes until we get it.
+            // If the server hasn't answered in a while (for example because we stopped and started tracking the tile in between), ask again
+            long time = getWorldNN().getGameTime();
+            if (!awaitingFullUpdate || time - fullUpdateRequestTime >= FULL_UPDATE_TIMEOUT) {
+                awaitingFullUpdate = true;
+                fullUpdateRequestTime = time;
+                Mekanism.packetHandler.sendToServer(new PacketTileUpdateRequest(getBlockPos()));
+            }
+            return;
+        }
+        delta.apply(tag);
+        handleUpdatePacket(tag, version);
+    }
+
+    private void resetSyncedUpdateTag() {
+        syncedUpdateTag = null;
+        awaitingFullUpdate = false;
+    }
+
     public void sendUpdatePacket() {
         sendUpdatePacket(this);
     }
@@ -145,7 +239,39 @@ public abstract class TileEntityUpdateable extends TileEntity implements ITileWr
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            Mekanism.packetHandler.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            syncUpdateTag(getReducedUpdateTag(), tracking);
+        }
+    }
+
+    /**
+     * Sends the changes between the last update tag we sent and the given one to everyone tracking the given tile.
+     */
+    private void syncUpdateTag(CompoundNBT updateTag, TileEntity tracking) {
+        PacketUpdateTile packet;
+        if (syncedUpdateTag == null) {
+            packet = PacketUpdateTile.full(getBlockPos(), ++syncedUpdateVersion, updateTag);
+        } else {
+            TagDelta delta = TagDelta.create(syncedUpdateTag, updateTag);
+            if (delta.isEmpty()) {
+                //Nothing changed since the last update we sent
+                return;
+            }
+            //Fall back to sending the full tag if everything in it changed anyways
+            packet = delta.size() < updateTag.size() ? PacketUpdateTile.delta(getBlockPos(), ++syncedUpdateVersion, delta)
+                                                     : PacketUpdateTile.full(getBlockPos(), ++syncedUpdateVersion, updateTag);
+        }
+        syncedUpdateTag = updateTag;
+        Mekanism.packetHandler.sendToAllTracking(packet, tracking);
+    }
+
+    /**
+     * Sends the current full update tag to a player, for example when they received changes to the update tag without having the previous version of it.
+     */
+    public void sendFullUpdatePacket(ServerPlayerEntity player) {
+        //Make sure everyone has the current version first so that the player doesn't end up with an outdated state
+        sendUpdatePacket();
+        if (syncedUpdateTag != null) {
+            Mekanism.packetHandler.sendTo(PacketUpdateTile.full(getBlockPos(), syncedUpdateVersion, syncedUpdateTag), player);
         }
     }
 
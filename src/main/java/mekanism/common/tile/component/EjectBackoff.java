@@ -0,0 +1,62 @@
+package mekanism.common.tile.component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exponential backoff for auto-ejecting to the sides of a tile. Each failed attempt to eject to a side doubles the number of attempts that side gets skipped, up to a
+ * max. Sides get tried again right away when something new shows up to eject, but not when there is just more of what the sides already rejected.
+ */
+public class EjectBackoff {
+
+    private final int maxBackoff;
+    private final int[] backoff;
+    private final int[] skip;
+    private final List<Object> lastContents = new ArrayList<>();
+
+    public EjectBackoff(int sides, int maxBackoff) {
+        this.maxBackoff = maxBackoff;
+        backoff = new int[sides];
+        skip = new int[sides];
+    }
+
+    /**
+     * @return {@code true} if we should try to eject to the side this attempt.
+     */
+    public boolean shouldTry(int side) {
+        if (skip[side] > 0) {
+            skip[side]--;
+            return false;
+        }
+        return true;
+    }
+
+    public void onFailed(int side) {
+        backoff[side] = backoff[side] == 0 ? 1 : Math.min(maxBackoff, backoff[side] * 2);
+        skip[side] = backoff[side];
+    }
+
+    public void onAccepted(int side) {
+        backoff[side] = 0;
+        skip[side] = 0;
+    }
+
+    public void reset() {
+        for (int side = 0; side < backoff.length; side++) {
+            onAccepted(side);
+        }
+    }
+
+    /**
+     * Checks what types of things there are to eject, and resets the backoff if they differ from the last check.
+     *
+     * @param contents What is in each of the output tanks or slots, ignoring amounts.
+     */
+    public void updateContents(List<Object> contents) {
+        if (!contents.equals(lastContents)) {
+            lastContents.clear();
+            lastContents.addAll(contents);
+            reset();
+        }
+    }
+}
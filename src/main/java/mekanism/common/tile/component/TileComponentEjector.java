@@ -2,13 +2,19 @@ package mekanism.common.tile.component;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.NBTConstants;
 import mekanism.api.RelativeSide;
+import mekanism.api.chemical.IChemicalTank;
+import mekanism.api.fluid.IExtendedFluidTank;
+import mekanism.api.inventory.IInventorySlot;
 import mekanism.api.text.EnumColor;
+import mekanism.common.capabilities.NeighborCapabilityCache;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
@@ -38,15 +44,30 @@ import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
 
 public class TileComponentEjector implements ITileComponent, ISpecificContainerTracker {
 
+    /**
+     * Max number of attempts to skip ejecting to a side that didn't accept anything, for the types that get ejected every tick.
+     */
+    private static final int MAX_BACKOFF = 32;
+    /**
+     * Max number of attempts to skip ejecting items to a side that didn't accept anything, items are only ejected every ten ticks.
+     */
+    private static final int MAX_ITEM_BACKOFF = 4;
+
     private final TileEntityMekanism tile;
     private final Map<TransmissionType, ConfigInfo> configInfo = new EnumMap<>(TransmissionType.class);
     private final EnumColor[] inputColors = new EnumColor[]{null, null, null, null, null, null};
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    private final Map<TransmissionType, EjectBackoff> backoffs = new EnumMap<>(TransmissionType.class);
+    private final List<Direction> readySides = new ArrayList<>(EnumUtils.DIRECTIONS.length);
+    private final Set<Direction> acceptingSides = EnumSet.noneOf(Direction.class);
+    private final List<Object> contents = new ArrayList<>();
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this.tile = tile;
@@ -58,6 +79,9 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             ConfigInfo info = config.getConfig(type);
             if (info != null) {
                 configInfo.put(type, info);
+                //Items are only ejected every ten ticks, so back off by fewer attempts than we do for the types that are ejected every tick
+                int maxBackoff = type == TransmissionType.ITEM ? MAX_ITEM_BACKOFF : MAX_BACKOFF;
+                backoffs.put(type, new EjectBackoff(EnumUtils.DIRECTIONS.length, maxBackoff));
             }
         }
         return this;
@@ -76,9 +100,47 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         eject(TransmissionType.FLUID);
     }
 
+    /**
+     * @return {@code true} if auto-eject is enabled for any of the types this ejector outputs.
+     */
+    public boolean isEjecting() {
+        for (ConfigInfo info : configInfo.values()) {
+            if (info.isEjecting()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called when one of the neighbors of the tile changes, so that sides we backed off from get tried again right away.
+     *
+     * @apiNote Changes to the contents of the tile don't reset the backoff, instead it gets reset when the types of things there are to eject change.
+     */
+    public void resetBackoff() {
+        for (EjectBackoff backoff : backoffs.values()) {
+            backoff.reset();
+        }
+    }
+
+    /**
+     * Gets the sides we should try to eject to this attempt.
+     */
+    private List<Direction> getReadySides(Set<Direction> outputSides, EjectBackoff backoff) {
+        readySides.clear();
+        for (Direction side : outputSides) {
+            if (backoff.shouldTry(side.ordinal())) {
+                readySides.add(side);
+            }
+        }
+        return readySides;
+    }
+
     private void eject(TransmissionType type) {
         ConfigInfo info = configInfo.get(type);
         if (info != null && info.isEjecting()) {
+            EjectBackoff backoff = backoffs.get(type);
+            updateContents(info, backoff);
             for (DataType dataType : info.getSupportedDataTypes()) {
                 //TODO - 10.1: Re-evaluate this as strictly speaking we should output evenly if there is a data type set to output
                 // and one set to input/output instead of outputting to one and then outputting to the other after we potentially
@@ -86,11 +148,43 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 if (dataType.canOutput()) {
                     ISlotInfo slotInfo = info.getSlotInfo(dataType);
                     if (slotInfo != null) {
-                        Set<Direction> outputSides = info.getSidesForData(dataType);
+                        List<Direction> sides;
+                        acceptingSides.clear();
                         if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo) {
-                            ((ChemicalSlotInfo<?, ?, ?>) slotInfo).getTanks().forEach(tank -> ChemicalUtil.emit(outputSides, tank, tile, MekanismConfig.general.chemicalAutoEjectRate.get()));
+                            List<? extends IChemicalTank<?, ?>> tanks = ((ChemicalSlotInfo<?, ?, ?>) slotInfo).getTanks();
+                            if (isEmpty(tanks)) {
+                                //Nothing to eject, don't bother looking at the sides
+                                continue;
+                            }
+                            sides = getReadySides(info.getSidesForData(dataType), backoff);
+                            if (!sides.isEmpty()) {
+                                long rate = MekanismConfig.general.chemicalAutoEjectRate.get();
+                                for (IChemicalTank<?, ?> tank : tanks) {
+                                    ChemicalUtil.emit(sides, tank, tile, rate, acceptingSides);
+                                }
+                            }
                         } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo) {
-                            ((FluidSlotInfo) slotInfo).getTanks().forEach(tank -> FluidUtils.emit(outputSides, tank, tile, MekanismConfig.general.fluidAutoEjectRate.get()));
+                            List<IExtendedFluidTank> tanks = ((FluidSlotInfo) slotInfo).getTanks();
+                            if (isFluidEmpty(tanks)) {
+                                //Nothing to eject, don't bother looking at the sides
+                                continue;
+                            }
+                            sides = getReadySides(info.getSidesForData(dataType), backoff);
+                            if (!sides.isEmpty()) {
+                                int rate = MekanismConfig.general.fluidAutoEjectRate.get();
+                                for (IExtendedFluidTank tank : tanks) {
+                                    FluidUtils.emit(sides, tank, tile, rate, acceptingSides);
+                                }
+                            }
+                        } else {
+                            continue;
+                        }
+                        for (Direction side : sides) {
+                            if (acceptingSides.contains(side)) {
+                                backoff.onAccepted(side.ordinal());
+                            } else {
+                                backoff.onFailed(side.ordinal());
+                            }
                         }
                     }
                 }
@@ -98,11 +192,59 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         }
     }
 
+    /**
+     * Collects what types of things are in the output tanks or slots and passes them to the backoff, so that it can try all the sides again when there is something new
+     * to eject that they may accept.
+     */
+    private void updateContents(ConfigInfo info, EjectBackoff backoff) {
+        contents.clear();
+        for (DataType dataType : info.getSupportedDataTypes()) {
+            if (dataType.canOutput()) {
+                ISlotInfo slotInfo = info.getSlotInfo(dataType);
+                if (slotInfo instanceof ChemicalSlotInfo) {
+                    for (IChemicalTank<?, ?> tank : ((ChemicalSlotInfo<?, ?, ?>) slotInfo).getTanks()) {
+                        contents.add(tank.getType());
+                    }
+                } else if (slotInfo instanceof FluidSlotInfo) {
+                    for (IExtendedFluidTank tank : ((FluidSlotInfo) slotInfo).getTanks()) {
+                        contents.add(tank.getFluid().getFluid());
+                    }
+                } else if (slotInfo instanceof InventorySlotInfo) {
+                    for (IInventorySlot slot : ((InventorySlotInfo) slotInfo).getSlots()) {
+                        contents.add(slot.getStack().getItem());
+                    }
+                }
+            }
+        }
+        backoff.updateContents(contents);
+    }
+
+    private static boolean isEmpty(List<? extends IChemicalTank<?, ?>> tanks) {
+        for (IChemicalTank<?, ?> tank : tanks) {
+            if (!tank.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFluidEmpty(List<IExtendedFluidTank> tanks) {
+        for (IExtendedFluidTank tank : tanks) {
+            if (!tank.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void outputItems() {
         ConfigInfo info = configInfo.get(TransmissionType.ITEM);
         if (info == null || !info.isEjecting()) {
             return;
         }
+        EjectBackoff backoff = backoffs.get(TransmissionType.ITEM);
+        updateContents(info, backoff);
+        NeighborCapabilityCache neighbors = tile.getNeighborCache();
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (!dataType.canOutput()) {
                 continue;
@@ -114,21 +256,29 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             }
             Set<Direction> outputs = info.getSidesForData(dataType);
             if (!outputs.isEmpty()) {
+                List<Direction> sides = getReadySides(outputs, backoff);
+                if (sides.isEmpty()) {
+                    //We are backing off from all the sides, don't bother building the request
+                    continue;
+                }
                 TransitRequest ejectMap = InventoryUtils.getEjectItemMap(tile, ((InventorySlotInfo) slotInfo).getSlots(), outputs.iterator().next());
                 if (!ejectMap.isEmpty()) {
-                    for (Direction side : outputs) {
-                        TileEntity tile = WorldUtils.getTileEntity(this.tile.getLevel(), this.tile.getBlockPos().relative(side));
-                        if (tile == null) {
-                            //If the spot is not loaded just skip trying to eject to it
-                            continue;
-                        }
+                    for (Direction side : sides) {
+                        TileEntity tile = neighbors.getNeighbor(side);
                         TransitResponse response;
-                        if (tile instanceof TileEntityLogisticalTransporterBase) {
+                        if (tile == null) {
+                            //If there is nothing there or the spot is not loaded just skip trying to eject to it
+                            response = null;
+                        } else if (tile instanceof TileEntityLogisticalTransporterBase) {
                             response = ((TileEntityLogisticalTransporterBase) tile).getTransmitter().insert(this.tile, ejectMap, outputColor, true, 0);
                         } else {
-                            response = ejectMap.addToInventory(tile, side, false);
+                            Optional<IItemHandler> handler = neighbors.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, side).resolve();
+                            response = handler.isPresent() ? ejectMap.addToInventory(handler.get()) : null;
                         }
-                        if (!response.isEmpty()) {
+                        if (response == null || response.isEmpty()) {
+                            backoff.onFailed(side.ordinal());
+                        } else {
+                            backoff.onAccepted(side.ordinal());
                             // use the items returned by the TransitResponse; will be visible next loop
                             response.useAll();
                             if (ejectMap.isEmpty()) {
@@ -313,4 +463,4 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         setOutputColor(color);
     }
     //End computer related methods
-}
\ No newline at end of file
+}
@@ -77,6 +77,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         upgradeTicks = 0;
     }
 
+    /**
+     * @return {@code true} if an upgrade is currently being installed.
+     */
+    public boolean isUpgrading() {
+        return upgradeTicks > 0;
+    }
+
     public UpgradeInventorySlot getUpgradeSlot() {
         return upgradeSlot;
     }
@@ -196,6 +196,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return type;
     }
 
+    @Override
+    protected boolean isIdle() {
+        if (sortingNeeded && isSorting() || ejectorComponent != null && ejectorComponent.isEjecting()) {
+            return false;
+        }
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            if (!cacheLookupMonitor.hasNoRecipe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected void onUpdateServer() {
         super.onUpdateServer();
@@ -96,7 +96,6 @@ import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.math.vector.Vector3i;
 import net.minecraft.util.text.ITextComponent;
-import net.minecraft.world.Region;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
@@ -628,8 +627,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
             return;
         }
         if (searcher.state == State.IDLE) {
-            BlockPos startingPos = getStartingPos();
-            searcher.setChunkCache(new Region(getLevel(), startingPos, startingPos.offset(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
             searcher.start();
         }
         running = true;
@@ -638,7 +635,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -647,6 +644,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     }
 
     public void reset() {
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
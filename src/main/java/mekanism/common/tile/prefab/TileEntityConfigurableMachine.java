@@ -8,8 +8,10 @@ import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.component.TileComponentConfig;
 import mekanism.common.tile.component.TileComponentEjector;
 import mekanism.common.tile.interfaces.ISideConfiguration;
+import net.minecraft.block.Block;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.BlockPos;
 
 public abstract class TileEntityConfigurableMachine extends TileEntityMekanism implements ISideConfiguration, IConfigCardAccess {
 
@@ -46,6 +48,14 @@ public abstract class TileEntityConfigurableMachine extends TileEntityMekanism i
         getEjector().read(data);
     }
 
+    @Override
+    public void onNeighborChange(Block block, BlockPos neighborPos) {
+        super.onNeighborChange(block, neighborPos);
+        if (ejectorComponent != null && !isRemote()) {
+            ejectorComponent.resetBackoff();
+        }
+    }
+
     @Override
     protected void onUpdateServer() {
         super.onUpdateServer();
@@ -22,4 +22,9 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
     protected RecipeCacheLookupMonitor<RECIPE> createNewCacheMonitor() {
         return new RecipeCacheLookupMonitor<>(this);
     }
+
+    @Override
+    protected boolean isIdle() {
+        return recipeCacheLookupMonitor.hasNoRecipe() && (ejectorComponent == null || !ejectorComponent.isEjecting());
+    }
 }
\ No newline at end of file
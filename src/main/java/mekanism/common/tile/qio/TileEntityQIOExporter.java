@@ -2,11 +2,8 @@ package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Collection;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
@@ -15,10 +12,6 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
-import mekanism.common.content.qio.filter.QIOFilter;
-import mekanism.common.content.qio.filter.QIOItemStackFilter;
-import mekanism.common.content.qio.filter.QIOModIDFilter;
-import mekanism.common.content.qio.filter.QIOTagFilter;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
@@ -45,10 +38,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
     private int delay = 0;
     private boolean exportWithoutFilter;
 
-    private final EfficientEjector<Object2LongMap.Entry<HashedItem>> filterEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()));
-    private final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> filterlessEjector =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()));
+    private final EfficientEjector<QIOItemTypeData> ejector = new EfficientEjector<>(QIOItemTypeData::getItemType, data -> MathUtils.clampToInt(data.getCount()));
 
     public TileEntityQIOExporter() {
         super(MekanismBlocks.QIO_EXPORTER);
@@ -78,34 +68,12 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
             return;
         }
         if (exportWithoutFilter && getFilters().isEmpty()) {
-            filterlessEjector.eject(freq, back, freq.getItemDataMap().entrySet());
+            ejector.eject(freq, back, freq.getItemDataMap().values());
         } else if (!getFilters().isEmpty()) {
-            filterEjector.eject(freq, back, getFilterEjectMap(back, freq).object2LongEntrySet());
+            ejector.eject(freq, back, freq.getFilterMatches(this, getFilters()));
         }
     }
 
-    private Object2LongMap<HashedItem> getFilterEjectMap(TileEntity back, QIOFrequency freq) {
-        Object2LongMap<HashedItem> map = new Object2LongOpenHashMap<>();
-        for (QIOFilter<?> filter : getFilters()) {
-            if (filter instanceof QIOItemStackFilter) {
-                QIOItemStackFilter itemFilter = (QIOItemStackFilter) filter;
-                if (itemFilter.fuzzyMode) {
-                    map.putAll(freq.getStacksByItem(itemFilter.getItemStack().getItem()));
-                } else {
-                    HashedItem type = HashedItem.create(itemFilter.getItemStack());
-                    map.put(type, freq.getStored(type));
-                }
-            } else if (filter instanceof QIOTagFilter) {
-                String tagName = ((QIOTagFilter) filter).getTagName();
-                map.putAll(freq.getStacksByTagWildcard(tagName));
-            } else if (filter instanceof QIOModIDFilter) {
-                String modID = ((QIOModIDFilter) filter).getModID();
-                map.putAll(freq.getStacksByModIDWildcard(modID));
-            }
-        }
-        return map;
-    }
-
     @ComputerMethod
     public boolean getExportWithoutFilter() {
         return exportWithoutFilter;
@@ -169,7 +137,8 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler {
      * type, but not attempt every item in the frequency each operation.
      *
      * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the entries of the QIO's item data map when running a
-     * filterless ejection, rather then recreating the whole map each ejection operation.
+     * filterless ejection, rather then recreating the whole map each ejection operation. Filtered ejections use the matching
+     * entries that the frequency keeps compiled for this exporter's filters.
      *
      * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
      *
@@ -98,6 +98,13 @@ public class TileEntityMechanicalPipe extends TileEntityTransmitter implements I
         return updateTag;
     }
 
+    @Override
+    protected void removeInitialUpdateData(@Nonnull CompoundNBT updateTag) {
+        super.removeInitialUpdateData(updateTag);
+        updateTag.remove(NBTConstants.FLUID_STORED);
+        updateTag.remove(NBTConstants.SCALE);
+    }
+
     private List<IExtendedFluidTank> getFluidTanks(@Nullable Direction side) {
         return fluidHandlerManager.getContainers(side);
     }
@@ -117,6 +117,13 @@ public class TileEntityPressurizedTube extends TileEntityTransmitter implements
         return updateTag;
     }
 
+    @Override
+    protected void removeInitialUpdateData(@Nonnull CompoundNBT updateTag) {
+        super.removeInitialUpdateData(updateTag);
+        updateTag.remove(NBTConstants.BOXED_CHEMICAL);
+        updateTag.remove(NBTConstants.SCALE);
+    }
+
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, TANK extends IChemicalTank<CHEMICAL, STACK>>
     IChemicalTankHolder<CHEMICAL, STACK, TANK> getHolder(BiFunction<BoxedPressurizedTube, Direction, List<TANK>> tankFunction) {
         BoxedPressurizedTube tube = getTransmitter();
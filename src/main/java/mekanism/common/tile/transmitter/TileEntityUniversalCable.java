@@ -98,6 +98,13 @@ public class TileEntityUniversalCable extends TileEntityTransmitter implements I
         return updateTag;
     }
 
+    @Override
+    protected void removeInitialUpdateData(@Nonnull CompoundNBT updateTag) {
+        super.removeInitialUpdateData(updateTag);
+        updateTag.remove(NBTConstants.ENERGY_STORED);
+        updateTag.remove(NBTConstants.SCALE);
+    }
+
     private List<IEnergyContainer> getEnergyContainers(@Nullable Direction side) {
         return energyHandlerManager.getContainers(side);
     }
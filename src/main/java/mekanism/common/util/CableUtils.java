@@ -7,7 +7,6 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.inventory.AutomationType;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
-import mekanism.common.integration.energy.EnergyCompatUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
 
@@ -44,10 +43,10 @@ public final class CableUtils {
             return FloatingLong.ZERO;
         }
         EnergyAcceptorTarget target = new EnergyAcceptorTarget(6);
-        EmitUtils.forEachSide(from.getLevel(), from.getBlockPos(), sides, (acceptor, side) -> {
-            //Insert to access side and collect the cap if it is present
-            EnergyCompatUtils.getLazyStrictEnergyHandler(acceptor, side.getOpposite()).ifPresent(target::addHandler);
-        });
+        for (Direction side : sides) {
+            //Collect the cap if it is present
+            EmitUtils.getNeighborEnergyHandler(from, side).ifPresent(target::addHandler);
+        }
         if (target.getHandlerCount() > 0) {
             return EmitUtils.sendToAcceptors(target, energyToSend);
         }
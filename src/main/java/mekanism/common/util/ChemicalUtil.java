@@ -1,6 +1,7 @@
 package mekanism.common.util;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mcp.MethodsReturnNonnullByDefault;
 import mekanism.api.Action;
@@ -263,8 +265,16 @@ public class ChemicalUtil {
     }
 
     public static void emit(Set<Direction> outputSides, IChemicalTank<?, ?> tank, TileEntity from, long maxOutput) {
+        emit(outputSides, tank, from, maxOutput, null);
+    }
+
+    /**
+     * @param acceptingSides - if not null, the sides that can accept the contents of the tank get added to it
+     */
+    public static void emit(Collection<Direction> outputSides, IChemicalTank<?, ?> tank, TileEntity from, long maxOutput, @Nullable Set<Direction> acceptingSides) {
         if (!tank.isEmpty() && maxOutput > 0) {
-            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE, AutomationType.INTERNAL);
+            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from, acceptingSides), Action.EXECUTE,
+                  AutomationType.INTERNAL);
         }
     }
 
@@ -278,19 +288,36 @@ public class ChemicalUtil {
      * @return the amount of chemical emitted
      */
     public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(Set<Direction> sides, @Nonnull STACK stack, TileEntity from) {
+        return emit(sides, stack, from, null);
+    }
+
+    /**
+     * Emits chemical from a central block by splitting the received stack among the sides given.
+     *
+     * @param sides          - the list of sides to output from
+     * @param stack          - the stack to output
+     * @param from           - the TileEntity to output from
+     * @param acceptingSides - if not null, the sides that can accept the stack get added to it
+     *
+     * @return the amount of chemical emitted
+     */
+    public static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(Collection<Direction> sides, @Nonnull STACK stack,
+          TileEntity from, @Nullable Set<Direction> acceptingSides) {
         if (stack.isEmpty() || sides.isEmpty()) {
             return 0;
         }
         Capability<IChemicalHandler<CHEMICAL, STACK>> capability = getCapabilityForChemical(stack);
         ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, 6);
-        EmitUtils.forEachSide(from.getLevel(), from.getBlockPos(), sides, (acceptor, side) -> {
-            //Insert to access side and collect the cap if it is present and we can insert the type of the stack into it
-            CapabilityUtils.getCapability(acceptor, capability, side.getOpposite()).ifPresent(handler -> {
-                if (canInsert(handler, stack)) {
-                    target.addHandler(handler);
+        for (Direction side : sides) {
+            //Collect the cap if it is present and we can insert the type of the stack into it
+            Optional<IChemicalHandler<CHEMICAL, STACK>> handler = EmitUtils.getNeighborCapability(from, capability, side).resolve();
+            if (handler.isPresent() && canInsert(handler.get(), stack)) {
+                target.addHandler(handler.get());
+                if (acceptingSides != null) {
+                    acceptingSides.add(side);
                 }
-            });
-        });
+            }
+        }
         if (target.getHandlerCount() > 0) {
             return EmitUtils.sendToAcceptors(target, stack.getAmount(), ChemicalUtil.copy(stack));
         }
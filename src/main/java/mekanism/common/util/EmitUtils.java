@@ -1,16 +1,20 @@
 package mekanism.common.util;
 
-import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.NeighborCapabilityCache;
+import mekanism.common.integration.energy.EnergyCompatUtils;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
+import mekanism.common.tile.base.TileEntityMekanism;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Direction;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.util.LazyOptional;
 
 public class EmitUtils {
 
@@ -87,27 +91,41 @@ public class EmitUtils {
      * @return The amount that actually got sent
      */
     public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(TARGET availableTargets, FloatingLong amountToSplit) {
+        if (availableTargets.getHandlerCount() == 0) {
+            //Short circuit before creating the split info and copying the amount to split if there is nothing to send to
+            return FloatingLong.ZERO;
+        }
         return sendToAcceptors(availableTargets, new FloatingLongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), amountToSplit);
     }
 
     /**
-     * Simple helper to loop over each side of the block and complete an action for each tile found
+     * Gets the capability the neighbor on the given side of a tile exposes towards it. Our own tiles get it from their {@link NeighborCapabilityCache} so that the
+     * world only has to be queried when a neighbor changes, and so that looking the capability up again after the neighbor changes doesn't register another
+     * invalidation listener on the neighbor every time we emit. Either way, neighbors that are not loaded are treated as if there is nothing there, so emitting never sends
+     * into or loads an unloaded chunk.
      *
-     * @param world  - world to access
-     * @param center - location to center search on
-     * @param sides  - sides to search
-     * @param action - action to complete
+     * @param from       - the tile to get the neighbor of
+     * @param capability - capability to get
+     * @param side       - side of the neighbor
+     */
+    public static <T> LazyOptional<T> getNeighborCapability(TileEntity from, @Nullable Capability<T> capability, Direction side) {
+        if (from instanceof TileEntityMekanism) {
+            return ((TileEntityMekanism) from).getNeighborCache().getCapability(capability, side);
+        }
+        //Get tile if the block is loaded, prevents ghost chunk loading
+        TileEntity tile = WorldUtils.getTileEntity(from.getLevel(), from.getBlockPos().relative(side));
+        return CapabilityUtils.getCapability(tile, capability, side.getOpposite());
+    }
+
+    /**
+     * Energy equivalent of {@link #getNeighborCapability(TileEntity, Capability, Direction)} that wraps any of the supported energy capabilities.
      */
-    public static void forEachSide(World world, BlockPos center, Iterable<Direction> sides, BiConsumer<TileEntity, Direction> action) {
-        if (sides != null) {
-            //Loop provided sides
-            for (Direction side : sides) {
-                //Get tile and provide if not null and the block is loaded, prevents ghost chunk loading
-                TileEntity tile = WorldUtils.getTileEntity(world, center.relative(side));
-                if (tile != null) {
-                    action.accept(tile, side);
-                }
-            }
+    public static LazyOptional<IStrictEnergyHandler> getNeighborEnergyHandler(TileEntity from, Direction side) {
+        if (from instanceof TileEntityMekanism) {
+            return ((TileEntityMekanism) from).getNeighborCache().getStrictEnergyHandler(side);
         }
+        //Get tile if the block is loaded, prevents ghost chunk loading
+        TileEntity tile = WorldUtils.getTileEntity(from.getLevel(), from.getBlockPos().relative(side));
+        return EnergyCompatUtils.getLazyStrictEnergyHandler(tile, side.getOpposite());
     }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package mekanism.common.util;
 
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
 import mekanism.api.inventory.AutomationType;
@@ -34,8 +36,16 @@ public final class FluidUtils {
     }
 
     public static void emit(Set<Direction> outputSides, IExtendedFluidTank tank, TileEntity from, int maxOutput) {
+        emit(outputSides, tank, from, maxOutput, null);
+    }
+
+    /**
+     * @param acceptingSides - if not null, the sides that can accept the contents of the tank get added to it
+     */
+    public static void emit(Collection<Direction> outputSides, IExtendedFluidTank tank, TileEntity from, int maxOutput, @Nullable Set<Direction> acceptingSides) {
         if (!tank.isEmpty() && maxOutput > 0) {
-            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE, AutomationType.INTERNAL);
+            tank.extract(emit(outputSides, tank.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from, acceptingSides), Action.EXECUTE,
+                  AutomationType.INTERNAL);
         }
     }
 
@@ -49,19 +59,35 @@ public final class FluidUtils {
      * @return the amount of fluid emitted
      */
     public static int emit(Set<Direction> sides, @Nonnull FluidStack stack, TileEntity from) {
+        return emit(sides, stack, from, null);
+    }
+
+    /**
+     * Emits fluid from a central block by splitting the received stack among the sides given.
+     *
+     * @param sides          - the list of sides to output from
+     * @param stack          - the stack to output
+     * @param from           - the TileEntity to output from
+     * @param acceptingSides - if not null, the sides that can accept the stack get added to it
+     *
+     * @return the amount of fluid emitted
+     */
+    public static int emit(Collection<Direction> sides, @Nonnull FluidStack stack, TileEntity from, @Nullable Set<Direction> acceptingSides) {
         if (stack.isEmpty() || sides.isEmpty()) {
             return 0;
         }
         FluidStack toSend = stack.copy();
         FluidHandlerTarget target = new FluidHandlerTarget(stack, 6);
-        EmitUtils.forEachSide(from.getLevel(), from.getBlockPos(), sides, (acceptor, side) -> {
-            //Insert to access side and collect the cap if it is present and we can insert the type of the stack into it
-            CapabilityUtils.getCapability(acceptor, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side.getOpposite()).ifPresent(handler -> {
-                if (canFill(handler, toSend)) {
-                    target.addHandler(handler);
+        for (Direction side : sides) {
+            //Collect the cap if it is present and we can insert the type of the stack into it
+            Optional<IFluidHandler> handler = EmitUtils.getNeighborCapability(from, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side).resolve();
+            if (handler.isPresent() && canFill(handler.get(), toSend)) {
+                target.addHandler(handler.get());
+                if (acceptingSides != null) {
+                    acceptingSides.add(side);
                 }
-            });
-        });
+            }
+        }
         if (target.getHandlerCount() > 0) {
             return EmitUtils.sendToAcceptors(target, stack.getAmount(), toSend);
         }
@@ -74,6 +74,35 @@ class FloatingLongPropertyTest implements WithQuickTheories {
               .check(value -> FloatingLong.createConst(value).equals(clampFromBigDecimal(new BigDecimal(Double.toString(value)))));
     }
 
+    @Test
+    @DisplayName("Test in place addition modifies mutable floating longs and matches addition")
+    void testPlusEqual() {
+        floatingLongPairTheory().check((a, b) -> {
+            FloatingLong mutable = a.copy();
+            return mutable.plusEqual(b) == mutable && mutable.equals(a.add(b));
+        });
+    }
+
+    @Test
+    @DisplayName("Test in place subtraction modifies mutable floating longs and matches subtraction")
+    void testMinusEqual() {
+        floatingLongPairTheory().check((a, b) -> {
+            FloatingLong mutable = a.copy();
+            return mutable.minusEqual(b) == mutable && mutable.equals(a.subtract(b));
+        });
+    }
+
+    @Test
+    @DisplayName("Test in place operations on constants do not modify the constant")
+    void testConstantsUnmodified() {
+        floatingLongPairTheory().check((a, b) -> {
+            FloatingLong copy = a.copy();
+            a.plusEqual(b);
+            a.minusEqual(b);
+            return a.equals(copy);
+        });
+    }
+
     @Test
     @DisplayName("Test addition and clamping at max value for overflow")
     void testAddition() {
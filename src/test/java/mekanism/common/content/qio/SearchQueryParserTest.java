@@ -1,6 +1,16 @@
 package mekanism.common.content.qio;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
 import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -66,6 +76,103 @@ class SearchQueryParserTest {
         Assertions.assertDoesNotThrow(() -> SearchQueryParser.parse("|4434|'f1419879182749182^?%#@*&$1@(#*$\"'"));
     }
 
+    @Test
+    @DisplayName("Test search index matches the same entries as checking every entry")
+    void testSearchIndex() {
+        Map<String, Map<QueryType, List<String>>> entries = new HashMap<>();
+        entries.put("cobblestone", searchStrings("cobblestone", "minecraft", Collections.singletonList("cobblestone"), Arrays.asList("forge:cobblestone", "minecraft:stone_tool_materials")));
+        entries.put("stone", searchStrings("stone", "minecraft", Collections.singletonList("stone"), Arrays.asList("forge:stone", "minecraft:stone_bricks")));
+        entries.put("osmium", searchStrings("osmium ingot", "mekanism", Arrays.asList("osmium ingot", "a rare metal"), Arrays.asList("forge:ingots", "forge:ingots/osmium")));
+        entries.put("steel", searchStrings("steel ingot", "mekanism", Collections.singletonList("steel ingot"), Arrays.asList("forge:ingots", "forge:ingots/steel")));
+        entries.put("diamond", searchStrings("diamond", "minecraft", Arrays.asList("diamond", "shiny"), Collections.singletonList("forge:gems/diamond")));
+        entries.put("empty", searchStrings("", "", Collections.emptyList(), Collections.emptyList()));
+        SearchIndex<String> index = createIndex(entries);
+        for (String query : Arrays.asList("", "st", "sto", "stone", "STONE", "ingot", "ingot | diamond", "@mek", "@mekanism ingot", "#ingots", "#(gems | steel)",
+              "$rare", "$shiny dia", "@minecraft #forge:stone", "(cobble | steel) @mine", "xyz", "ngo", "\"osmium ingot\"", "\"no end quote", "|", "@ |")) {
+            searchAssert(index, entries, query);
+        }
+        //Removing entries should remove them from any results
+        index.remove("stone");
+        entries.remove("stone");
+        index.remove("steel");
+        entries.remove("steel");
+        for (String query : Arrays.asList("stone", "ingot", "#ingots", "@minecraft", "steel | cobble")) {
+            searchAssert(index, entries, query);
+        }
+    }
+
+    @Test
+    @DisplayName("Test search index matches the same entries as checking every entry for random entries and queries")
+    void testSearchIndexRandom() {
+        Random random = new Random(0);
+        Map<String, Map<QueryType, List<String>>> entries = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            entries.put("entry" + i, searchStrings(randomString(random, 12), randomString(random, 6), Arrays.asList(randomString(random, 10), randomString(random, 10)),
+                  Collections.singletonList(randomString(random, 8))));
+        }
+        SearchIndex<String> index = createIndex(entries);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder query = new StringBuilder();
+            int parts = 1 + random.nextInt(3);
+            for (int part = 0; part < parts; part++) {
+                if (part > 0) {
+                    query.append(random.nextBoolean() ? " | " : " ");
+                }
+                int type = random.nextInt(5);
+                if (type == 1) {
+                    query.append('@');
+                } else if (type == 2) {
+                    query.append('$');
+                } else if (type == 3) {
+                    query.append('#');
+                }
+                query.append(randomString(random, 1 + random.nextInt(4)));
+            }
+            searchAssert(index, entries, query.toString());
+            if (i % 50 == 0) {
+                //Periodically remove an entry to make sure the index stays in sync
+                String toRemove = entries.keySet().iterator().next();
+                index.remove(toRemove);
+                entries.remove(toRemove);
+            }
+        }
+    }
+
+    private static Map<QueryType, List<String>> searchStrings(String name, String modID, List<String> tooltip, List<String> tags) {
+        Map<QueryType, List<String>> strings = new EnumMap<>(QueryType.class);
+        strings.put(QueryType.NAME, Collections.singletonList(name));
+        strings.put(QueryType.MOD_ID, Collections.singletonList(modID));
+        strings.put(QueryType.TOOLTIP, tooltip);
+        strings.put(QueryType.TAG, tags);
+        return strings;
+    }
+
+    private static String randomString(Random random, int length) {
+        //Use a small alphabet so that random keys actually match some entries
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(4));
+        }
+        return new String(chars);
+    }
+
+    private static SearchIndex<String> createIndex(Map<String, Map<QueryType, List<String>>> entries) {
+        SearchIndex<String> index = new SearchIndex<>();
+        entries.forEach((entry, strings) -> index.add(entry, strings::get));
+        return index;
+    }
+
+    private void searchAssert(SearchIndex<String> index, Map<String, Map<QueryType, List<String>>> entries, String queryStr) {
+        ISearchQuery query = SearchQueryParser.parse(queryStr);
+        Set<String> expected = new HashSet<>();
+        entries.forEach((entry, strings) -> {
+            if (query.matches(strings::get)) {
+                expected.add(entry);
+            }
+        });
+        Assertions.assertEquals(expected, index.search(query), () -> "Mismatched results for query: " + queryStr);
+    }
+
     private void queryAssert(String query, String mapResult) {
         Assertions.assertEquals(mapResult, SearchQueryParser.parse(query).toString());
     }
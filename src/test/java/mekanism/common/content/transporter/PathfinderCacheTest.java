@@ -0,0 +1,92 @@
+package mekanism.common.content.transporter;
+
+import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.content.transporter.TransporterPathfinder.PathTree;
+import mekanism.common.content.transporter.TransporterPathfinder.TransporterGraph;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test PathfinderCache path tree invalidation")
+class PathfinderCacheTest {
+
+    private static final BlockPos START = BlockPos.ZERO;
+    private static final BlockPos END = new BlockPos(3, 0, 0);
+
+    private final UUID network = UUID.randomUUID();
+    private final LineGraph graph = new LineGraph();
+
+    @BeforeEach
+    void setup() {
+        PathfinderCache.reset();
+    }
+
+    @AfterEach
+    void cleanup() {
+        PathfinderCache.reset();
+    }
+
+    private PathTree getPathTree() {
+        return PathfinderCache.getPathTree(network, START, null, () -> PathTree.create(graph, START));
+    }
+
+    @Test
+    @DisplayName("Test that the path tree is reused while the network doesn't change")
+    void testTreeReused() {
+        PathTree tree = getPathTree();
+        Assertions.assertTrue(tree.reaches(END));
+        Assertions.assertSame(tree, getPathTree());
+    }
+
+    @Test
+    @DisplayName("Test that a route is found again after a transporter side is disabled and then re-enabled")
+    void testSideReenabled() {
+        Assertions.assertTrue(getPathTree().reaches(END));
+        graph.setSideEnabled(false);
+        Assertions.assertFalse(getPathTree().reaches(END));
+        graph.setSideEnabled(true);
+        Assertions.assertTrue(getPathTree().reaches(END));
+    }
+
+    /**
+     * A line of transporters from {@link #START} to {@link #END}, where the side of the second transporter that faces the third one can be disabled without the
+     * transporters leaving the network, the same way as disabling the connection of a transporter to another transporter in its network.
+     */
+    private class LineGraph implements TransporterGraph<BlockPos> {
+
+        private final BlockPos toggled = new BlockPos(1, 0, 0);
+        private boolean sideEnabled = true;
+
+        private void setSideEnabled(boolean enabled) {
+            if (sideEnabled != enabled) {
+                sideEnabled = enabled;
+                //Mirrors what the transporter does when refreshing its connections changes them
+                PathfinderCache.onChanged(network);
+            }
+        }
+
+        @Nullable
+        @Override
+        public BlockPos getNode(BlockPos pos) {
+            return pos.getY() == 0 && pos.getZ() == 0 && pos.getX() >= START.getX() && pos.getX() <= END.getX() ? pos : null;
+        }
+
+        @Override
+        public boolean canMove(BlockPos from, Direction direction, @Nullable BlockPos to) {
+            if (to == null) {
+                return false;
+            }
+            return sideEnabled || !((from.equals(toggled) && direction == Direction.EAST) || (to.equals(toggled) && direction == Direction.WEST));
+        }
+
+        @Override
+        public double getCost(BlockPos node) {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test ReservationLedger implementation")
+class ReservationLedgerTest {
+
+    private static final int SLOT_LIMIT = 64;
+
+    @Test
+    @DisplayName("Test that stacks reserve room in the slots they will be inserted into")
+    void testReserve() {
+        TestLedger ledger = new TestLedger(2);
+        ledger.send(new TestStack("stone", 40));
+        ledger.send(new TestStack("stone", 40));
+        Assertions.assertEquals(SLOT_LIMIT, ledger.getReserved(0));
+        Assertions.assertEquals(16, ledger.getReserved(1));
+        Assertions.assertFalse(ledger.hasBlockingStacks());
+    }
+
+    @Test
+    @DisplayName("Test that releasing a stack frees the room it reserved")
+    void testRelease() {
+        TestLedger ledger = new TestLedger(1);
+        TestStack stack = new TestStack("stone", 40);
+        ledger.send(stack);
+        ledger.arrive(stack);
+        Assertions.assertEquals(0, ledger.getReserved(0));
+        Assertions.assertTrue(ledger.tick());
+    }
+
+    @Test
+    @DisplayName("Test that a stack added while the reservations get rebuilt is only reserved once")
+    void testRebuildDuringReserve() {
+        TestLedger ledger = new TestLedger(2);
+        ledger.send(new TestStack("stone", 10));
+        ledger.tick();
+        //Change what is in the slot the first stack reserved room in, so that the reservations no longer apply and have to be rebuilt
+        ledger.types[0] = "dirt";
+        ledger.amounts[0] = 1;
+        //The stack is already in flight when it gets reserved, so the rebuild triggered by reserving it will reserve it as well
+        ledger.send(new TestStack("stone", 20));
+        Assertions.assertEquals(0, ledger.getReserved(0));
+        Assertions.assertEquals(30, ledger.getReserved(1));
+        Assertions.assertFalse(ledger.hasBlockingStacks());
+    }
+
+    @Test
+    @DisplayName("Test that a stack that doesn't fit blocks the destination only once")
+    void testBlockingRebuildDuringReserve() {
+        TestLedger ledger = new TestLedger(2);
+        ledger.send(new TestStack("stone", 10));
+        ledger.tick();
+        ledger.types[0] = "dirt";
+        ledger.amounts[0] = 1;
+        //Only part of this stack fits next to the first one, so it blocks the destination
+        TestStack blocked = new TestStack("stone", 60);
+        ledger.send(blocked);
+        Assertions.assertTrue(ledger.hasBlockingStacks());
+        //If the blocking stack was counted twice, the destination would stay blocked after it is gone
+        ledger.arrive(blocked);
+        Assertions.assertFalse(ledger.hasBlockingStacks());
+    }
+
+    @Test
+    @DisplayName("Test that stacks that no longer fit after the destination got filled some other way block the destination")
+    void testFilledOutsideOfLedger() {
+        TestLedger ledger = new TestLedger(1);
+        ledger.send(new TestStack("stone", 40));
+        Assertions.assertFalse(ledger.hasBlockingStacks());
+        ledger.tick();
+        //Something other than the transporters, such as a hopper, puts items in the slot the stack reserved room in
+        ledger.types[0] = "stone";
+        ledger.amounts[0] = 30;
+        Assertions.assertEquals(SLOT_LIMIT, ledger.getPredicted().amounts[0]);
+        Assertions.assertTrue(ledger.hasBlockingStacks());
+    }
+
+    private static class TestStack {
+
+        private final String type;
+        private final int count;
+
+        private TestStack(String type, int count) {
+            this.type = type;
+            this.count = count;
+        }
+    }
+
+    private static class Contents {
+
+        private final String[] types;
+        private final int[] amounts;
+
+        private Contents(String[] types, int[] amounts) {
+            this.types = types;
+            this.amounts = amounts;
+        }
+    }
+
+    /**
+     * Ledger for a destination that just fills its slots in order, and that gets told about stacks the same way {@link TransporterManager} does: the stack is added
+     * to the stacks in flight before it is reserved.
+     */
+    private static class TestLedger extends ReservationLedger<TestStack, Contents, String> {
+
+        private final List<TestStack> inFlight = new ArrayList<>();
+        private final String[] types;
+        private final int[] amounts;
+
+        private TestLedger(int slots) {
+            types = new String[slots];
+            amounts = new int[slots];
+        }
+
+        private void send(TestStack stack) {
+            inFlight.add(stack);
+            reserve(stack);
+        }
+
+        private void arrive(TestStack stack) {
+            inFlight.remove(stack);
+            release(stack);
+        }
+
+        @Override
+        protected Contents readContents() {
+            return new Contents(Arrays.copyOf(types, types.length), Arrays.copyOf(amounts, amounts.length));
+        }
+
+        @Override
+        protected int getSlots(Contents contents) {
+            return contents.types.length;
+        }
+
+        @Override
+        protected int[] getStackSizes(Contents contents) {
+            return contents.amounts;
+        }
+
+        @Override
+        protected int getSlotLimit(Contents contents, int slot) {
+            return SLOT_LIMIT;
+        }
+
+        @Override
+        protected String getType(Contents contents, int slot) {
+            return contents.types[slot];
+        }
+
+        @Override
+        protected void setType(Contents contents, int slot, String type) {
+            contents.types[slot] = type;
+        }
+
+        @Override
+        protected boolean isStackable(String a, String b) {
+            return Objects.equals(a, b);
+        }
+
+        @Override
+        protected Iterable<TestStack> getInFlight() {
+            return inFlight;
+        }
+
+        @Override
+        protected boolean canReserve(TestStack stack) {
+            return true;
+        }
+
+        @Override
+        protected boolean simulateInsert(Contents contents, TestStack stack) {
+            int count = stack.count;
+            for (int slot = 0; slot < contents.types.length && count > 0; slot++) {
+                if (contents.amounts[slot] == 0) {
+                    contents.types[slot] = stack.type;
+                } else if (!stack.type.equals(contents.types[slot])) {
+                    continue;
+                }
+                int toAdd = Math.min(count, SLOT_LIMIT - contents.amounts[slot]);
+                contents.amounts[slot] += toAdd;
+                count -= toAdd;
+            }
+            return count > 0;
+        }
+    }
+}
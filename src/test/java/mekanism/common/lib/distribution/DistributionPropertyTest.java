@@ -1,5 +1,13 @@
 package mekanism.common.lib.distribution;
 
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerEnergyHandler;
+import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +29,25 @@ class DistributionPropertyTest implements WithQuickTheories {
         return prng -> DistributionTest.getTargets((int) prng.next(infiniteConstraint), (int) prng.next(someConstraint), (int) prng.next(noneConstraint));
     }
 
+    private Gen<List<IntegerEnergyHandler>> createEnergyHandlers(int maxInfinite, int maxSome, int maxNone) {
+        Constraint infiniteConstraint = Constraint.between(0, maxInfinite).withShrinkPoint(0);
+        Constraint someConstraint = Constraint.between(0, maxSome).withShrinkPoint(0);
+        Constraint noneConstraint = Constraint.between(0, maxNone).withShrinkPoint(0);
+        return prng -> {
+            List<IntegerEnergyHandler> handlers = new ArrayList<>();
+            for (int i = 0, infinite = (int) prng.next(infiniteConstraint); i < infinite; i++) {
+                handlers.add(new IntegerEnergyHandler(new InfiniteIntegerHandler()));
+            }
+            for (int i = 0, some = (int) prng.next(someConstraint); i < some; i++) {
+                handlers.add(new IntegerEnergyHandler(new PartialIntegerHandler()));
+            }
+            for (int i = 0, none = (int) prng.next(noneConstraint); i < none; i++) {
+                handlers.add(new IntegerEnergyHandler(new SpecificAmountIntegerHandler(0)));
+            }
+            return handlers;
+        };
+    }
+
     private TheoryBuilder2<IntegerTarget, Integer> distributionTheory(int minInfinite, int maxInfinite, int minSome, int maxSome, int minNone, int maxNone) {
         return qt().forAll(createTargets(minInfinite, maxInfinite, minSome, maxSome, minNone, maxNone), integers().allPositive());
     }
@@ -54,4 +81,17 @@ class DistributionPropertyTest implements WithQuickTheories {
               EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend) <= toSend
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test energy distribution sends exactly what the handlers accepted and does not modify the amount to send")
+    void testEnergyDistribution() {
+        qt().forAll(createEnergyHandlers(100, 100, 100), integers().allPositive()).check((handlers, toSend) -> {
+            EnergyAcceptorTarget target = new EnergyAcceptorTarget(handlers.size());
+            handlers.forEach(target::addHandler);
+            FloatingLong amount = FloatingLong.create(toSend);
+            FloatingLong sent = EmitUtils.sendToAcceptors(target, amount);
+            long accepted = handlers.stream().mapToLong(IntegerEnergyHandler::getAccepted).sum();
+            return sent.smallerOrEqual(amount) && sent.equals(FloatingLong.create(accepted)) && amount.equals(FloatingLong.create(toSend));
+        });
+    }
+}
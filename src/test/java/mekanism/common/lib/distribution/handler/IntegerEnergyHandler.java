@@ -0,0 +1,56 @@
+package mekanism.common.lib.distribution.handler;
+
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.api.math.FloatingLong;
+
+/**
+ * Exposes an {@link IntegerHandler} as an energy handler so that the energy distribution targets can be tested using the same handlers as the integer distribution.
+ */
+public class IntegerEnergyHandler implements IStrictEnergyHandler {
+
+    private final IntegerHandler handler;
+
+    public IntegerEnergyHandler(IntegerHandler handler) {
+        this.handler = handler;
+    }
+
+    public int getAccepted() {
+        return handler.getAccepted();
+    }
+
+    @Override
+    public int getEnergyContainerCount() {
+        return 1;
+    }
+
+    @Override
+    public FloatingLong getEnergy(int container) {
+        return FloatingLong.create(handler.getAccepted());
+    }
+
+    @Override
+    public void setEnergy(int container, FloatingLong energy) {
+    }
+
+    @Override
+    public FloatingLong getMaxEnergy(int container) {
+        return FloatingLong.MAX_VALUE;
+    }
+
+    @Override
+    public FloatingLong getNeededEnergy(int container) {
+        return FloatingLong.MAX_VALUE;
+    }
+
+    @Override
+    public FloatingLong insertEnergy(int container, FloatingLong amount, Action action) {
+        int accepted = handler.perform(amount.intValue(), action.simulate());
+        return accepted == 0 ? amount : amount.subtract(accepted);
+    }
+
+    @Override
+    public FloatingLong extractEnergy(int container, FloatingLong amount, Action action) {
+        return FloatingLong.ZERO;
+    }
+}
@@ -0,0 +1,59 @@
+package mekanism.common.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test TagDelta implementation")
+class TagDeltaTest {
+
+    private static CompoundNBT createTag(int amount, boolean hot) {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putString("id", "mekanism:boiler_casing");
+        tag.putFloat("scale", amount / 1_000F);
+        if (hot) {
+            tag.putBoolean("hot", true);
+        }
+        CompoundNBT fluid = new CompoundNBT();
+        fluid.putString("FluidName", "minecraft:water");
+        fluid.putInt("Amount", amount);
+        tag.put("fluidStored", fluid);
+        return tag;
+    }
+
+    private static CompoundNBT applyAfterRoundTrip(TagDelta delta, CompoundNBT old) {
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        delta.write(buffer);
+        CompoundNBT tag = old.copy();
+        TagDelta.read(buffer).apply(tag);
+        return tag;
+    }
+
+    @Test
+    @DisplayName("Test that nothing changing results in an empty delta")
+    void testUnchanged() {
+        Assertions.assertTrue(TagDelta.create(createTag(100, true), createTag(100, true)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test that only the changed entries are included")
+    void testChanged() {
+        CompoundNBT old = createTag(100, false);
+        CompoundNBT current = createTag(200, false);
+        TagDelta delta = TagDelta.create(old, current);
+        Assertions.assertEquals(2, delta.size());
+        Assertions.assertEquals(current, applyAfterRoundTrip(delta, old));
+    }
+
+    @Test
+    @DisplayName("Test that added and removed entries are applied")
+    void testAddedAndRemoved() {
+        CompoundNBT cold = createTag(100, false);
+        CompoundNBT hot = createTag(100, true);
+        Assertions.assertEquals(hot, applyAfterRoundTrip(TagDelta.create(cold, hot), cold));
+        Assertions.assertEquals(cold, applyAfterRoundTrip(TagDelta.create(hot, cold), hot));
+    }
+}
@@ -0,0 +1,68 @@
+package mekanism.common.tile.component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test EjectBackoff implementation")
+class EjectBackoffTest {
+
+    private static final int SIDES = 6;
+    private static final int MAX_BACKOFF = 32;
+    private static final int TICKS = 1_000;
+
+    /**
+     * Simulates a powered machine ejecting to a full inventory on one side, where the machine keeps producing more of the same output every tick.
+     *
+     * @return The number of ticks the machine tried to eject to the full side.
+     */
+    private static int ejectToFullSide(EjectBackoff backoff, int side, List<Object> contents) {
+        int attempts = 0;
+        for (int tick = 0; tick < TICKS; tick++) {
+            //The machine producing more of the same output or using energy does not change what there is to eject
+            backoff.updateContents(contents);
+            if (backoff.shouldTry(side)) {
+                attempts++;
+                backoff.onFailed(side);
+            }
+        }
+        return attempts;
+    }
+
+    @Test
+    @DisplayName("Test that a full side gets skipped while the machine keeps producing the same output")
+    void testFullSideSkipped() {
+        EjectBackoff backoff = new EjectBackoff(SIDES, MAX_BACKOFF);
+        int attempts = ejectToFullSide(backoff, 0, Collections.singletonList("output"));
+        //Every attempt after the first few backs off for the max number of attempts
+        Assertions.assertTrue(attempts <= TICKS / MAX_BACKOFF + 6, "Tried to eject to the full side " + attempts + " times");
+        //The other sides are not affected
+        Assertions.assertTrue(backoff.shouldTry(1));
+    }
+
+    @Test
+    @DisplayName("Test that accepting resets only that side")
+    void testAcceptedResetsSide() {
+        EjectBackoff backoff = new EjectBackoff(SIDES, MAX_BACKOFF);
+        backoff.onFailed(0);
+        backoff.onFailed(1);
+        backoff.onAccepted(0);
+        Assertions.assertTrue(backoff.shouldTry(0));
+        Assertions.assertFalse(backoff.shouldTry(1));
+    }
+
+    @Test
+    @DisplayName("Test that something new to eject resets the backoff")
+    void testNewContentsReset() {
+        EjectBackoff backoff = new EjectBackoff(SIDES, MAX_BACKOFF);
+        List<Object> contents = Collections.singletonList("output");
+        ejectToFullSide(backoff, 0, contents);
+        backoff.updateContents(contents);
+        Assertions.assertFalse(backoff.shouldTry(0));
+        backoff.updateContents(Arrays.asList("output", "secondary"));
+        Assertions.assertTrue(backoff.shouldTry(0));
+    }
+}